@@ -15,6 +15,7 @@
  */
 package com.vaadin.client;
 
+import com.vaadin.client.communication.ClientMetrics;
 import com.vaadin.client.communication.ConnectionStateHandler;
 import com.vaadin.client.communication.DefaultConnectionStateHandler;
 import com.vaadin.client.communication.Heartbeat;
@@ -94,6 +95,7 @@ public class DefaultRegistry extends Registry {
         set(StateTree.class, new StateTree(this));
         set(LoadingIndicator.class, new LoadingIndicator());
         set(RequestResponseTracker.class, new RequestResponseTracker(this));
+        set(ClientMetrics.class, new ClientMetrics(this));
         set(MessageHandler.class, new MessageHandler(this));
         set(MessageSender.class, new MessageSender(this));
         set(ServerRpcQueue.class, new ServerRpcQueue(this));
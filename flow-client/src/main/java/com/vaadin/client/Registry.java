@@ -15,6 +15,7 @@
  */
 package com.vaadin.client;
 
+import com.vaadin.client.communication.ClientMetrics;
 import com.vaadin.client.communication.ConnectionStateHandler;
 import com.vaadin.client.communication.Heartbeat;
 import com.vaadin.client.communication.MessageHandler;
@@ -231,6 +232,15 @@ public class Registry {
         return get(RequestResponseTracker.class);
     }
 
+    /**
+     * Gets the {@link ClientMetrics} singleton.
+     *
+     * @return the {@link ClientMetrics} singleton
+     */
+    public ClientMetrics getClientMetrics() {
+        return get(ClientMetrics.class);
+    }
+
     /**
      * Gets the {@link ReconnectDialogConfiguration} singleton.
      *
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.google.gwt.core.client.Duration;
+import com.vaadin.client.Registry;
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+/**
+ * Aggregates client side metrics which are periodically sent to the server
+ * together with a regular client to server message.
+ * <p>
+ * Round trips are measured from the request events of the
+ * {@link RequestResponseTracker}.
+ * <p>
+ * Only sums and counts are collected so the data stays small and the server
+ * can compute averages over all reports it has received.
+ *
+ * @author Vaadin Ltd
+ * @since 2.3
+ */
+public class ClientMetrics {
+
+    /**
+     * Minimum time in milliseconds between two reports.
+     */
+    static final int REPORT_INTERVAL = 30000;
+
+    private final JsArray<Double> requestStartTimes = JsCollections.array();
+
+    private double lastReport = Duration.currentTimeMillis();
+
+    private int messages;
+    private double processingTime;
+    private int roundTrips;
+    private double roundTripTime;
+    private int resynchronizations;
+
+    /**
+     * Creates a new instance connected to the given registry.
+     *
+     * @param registry
+     *            the global registry
+     */
+    public ClientMetrics(Registry registry) {
+        RequestResponseTracker tracker = registry.getRequestResponseTracker();
+        tracker.addRequestStartingHandler(event -> requestStarted());
+        tracker.addResponseHandlingEndedHandler(event -> requestEnded());
+    }
+
+    /**
+     * Records that a server message has been processed.
+     *
+     * @param time
+     *            the time in milliseconds it took to process the message
+     */
+    public void messageProcessed(double time) {
+        messages++;
+        processingTime += time;
+    }
+
+    /**
+     * Records that a request has been sent to the server.
+     */
+    public void requestStarted() {
+        requestStartTimes.push(Duration.currentTimeMillis());
+    }
+
+    /**
+     * Records that the response to the oldest active request has been handled.
+     */
+    public void requestEnded() {
+        if (requestStartTimes.isEmpty()) {
+            return;
+        }
+        roundTrips++;
+        roundTripTime += Duration.currentTimeMillis()
+                - requestStartTimes.shift();
+    }
+
+    /**
+     * Records that the client has requested a resynchronization.
+     */
+    public void resynchronized() {
+        resynchronizations++;
+    }
+
+    /**
+     * Gets the metrics collected since the previous report and resets them, if
+     * there is something to report and the report interval has elapsed.
+     *
+     * @return the metrics to send, or <code>null</code> if nothing should be
+     *         sent yet
+     */
+    public JsonObject takeReport() {
+        double now = Duration.currentTimeMillis();
+        if (now - lastReport < REPORT_INTERVAL
+                || (messages == 0 && roundTrips == 0
+                        && resynchronizations == 0)) {
+            return null;
+        }
+        lastReport = now;
+
+        JsonObject report = Json.createObject();
+        report.put(ApplicationConstants.CLIENT_METRICS_MESSAGES, messages);
+        report.put(ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME,
+                processingTime);
+        report.put(ApplicationConstants.CLIENT_METRICS_ROUND_TRIPS,
+                roundTrips);
+        report.put(ApplicationConstants.CLIENT_METRICS_ROUND_TRIP_TIME,
+                roundTripTime);
+        report.put(ApplicationConstants.CLIENT_METRICS_RESYNCHRONIZATIONS,
+                resynchronizations);
+
+        messages = 0;
+        processingTime = 0;
+        roundTrips = 0;
+        roundTripTime = 0;
+        resynchronizations = 0;
+        return report;
+    }
+}
@@ -299,7 +299,8 @@ public class DefaultConnectionStateHandler implements ConnectionStateHandler {
     protected final void giveUp() {
         reconnectionCause = null;
 
-        if (registry.getRequestResponseTracker().hasActiveRequest()) {
+        // Several requests may be active when messages are pipelined
+        while (registry.getRequestResponseTracker().hasActiveRequest()) {
             endRequest();
         }
 
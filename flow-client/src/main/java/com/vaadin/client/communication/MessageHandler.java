@@ -381,7 +381,9 @@ public class MessageHandler {
             }
 
             if (json.hasKey("changes")) {
+                Profiler.enter("MessageHandler.processChanges");
                 processChanges(json);
+                Profiler.leave("MessageHandler.processChanges");
             }
 
             if (json.hasKey(JsonConstants.UIDL_KEY_EXECUTE)) {
@@ -427,10 +429,13 @@ public class MessageHandler {
                 Profiler.leave("Error handling");
             }
             nextResponseSessionExpiredHandler = null;
+            Profiler.enter("Reactive.flush");
             Reactive.flush();
+            Profiler.leave("Reactive.flush");
 
             lastProcessingTime = (int) (Duration.currentTimeMillis() - start);
             totalProcessingTime += lastProcessingTime;
+            registry.getClientMetrics().messageProcessed(lastProcessingTime);
             if (!initialMessageHandled) {
                 initialMessageHandled = true;
 
@@ -774,6 +779,43 @@ public class MessageHandler {
         return parseJson(stripJSONWrapping(wrappedJsonText));
     }
 
+    /**
+     * Parse the given wrapped JSON, received from the server, to a list of
+     * messages.
+     * <p>
+     * The server normally sends one message per response but sends several
+     * messages when replaying messages that the client did not receive.
+     *
+     * @param wrappedJsonText
+     *            the json, wrapped as done by the server
+     * @return an array of ValueMaps, or null if the wrapping was incorrect or
+     *         json could not be parsed
+     */
+    public static JsArray<ValueMap> parseWrappedJsonMessages(
+            String wrappedJsonText) {
+        String jsonText = stripJSONWrapping(wrappedJsonText);
+        if (jsonText == null) {
+            return null;
+        }
+        final double start = Profiler.getRelativeTimeMillis();
+        try {
+            JsArray<ValueMap> json = parseJSONArrayResponse(
+                    "[" + jsonText + "]");
+            Console.log("JSON parsing took "
+                    + Profiler.getRelativeTimeString(start) + "ms");
+            return json;
+        } catch (final Exception e) {
+            Console.error("Unable to parse JSON: " + jsonText);
+            return null;
+        }
+    }
+
+    private static native JsArray<ValueMap> parseJSONArrayResponse(
+            String jsonText)
+    /*-{
+       return JSON.parse(jsonText);
+    }-*/;
+
     private static final native double getFetchStartTime()
     /*-{
         if ($wnd.performance && $wnd.performance.timing && $wnd.performance.timing.fetchStart) {
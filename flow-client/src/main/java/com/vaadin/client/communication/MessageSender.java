@@ -52,8 +52,22 @@ public class MessageSender {
      *            the global registry
      */
     public MessageSender(Registry registry) {
+        this(registry, GWT.create(PushConnectionFactory.class));
+    }
+
+    /**
+     * Creates a new instance connected to the given registry, using the given
+     * factory for creating the push connection.
+     *
+     * @param registry
+     *            the global registry
+     * @param pushConnectionFactory
+     *            the factory for creating the push connection
+     */
+    MessageSender(Registry registry,
+            PushConnectionFactory pushConnectionFactory) {
         this.registry = registry;
-        this.pushConnectionFactory = GWT.create(PushConnectionFactory.class);
+        this.pushConnectionFactory = pushConnectionFactory;
     }
 
     /**
@@ -61,7 +75,9 @@ public class MessageSender {
      * progress and the application is running.
      * <p>
      * If a request is in progress, this method does nothing and assumes that it
-     * is called again when the request completes.
+     * is called again when the request completes. The exception is a
+     * bidirectional push connection configured to allow several messages in
+     * flight, see {@link PushConfiguration#getMaxInFlightMessages()}.
      */
     public void sendInvocationsToServer() {
         if (!registry.getUILifecycle().isRunning()) {
@@ -70,8 +86,8 @@ public class MessageSender {
             return;
         }
 
-        if (registry.getRequestResponseTracker().hasActiveRequest()
-                || (push != null && !push.isActive())) {
+        if ((registry.getRequestResponseTracker().hasActiveRequest()
+                && !canPipeline()) || (push != null && !push.isActive())) {
             // There is an active request or push is enabled but not active
             // -> send when current request completes or push becomes active
         } else {
@@ -120,7 +136,12 @@ public class MessageSender {
      */
     protected void send(final JsonArray reqInvocations,
             final JsonObject extraJson) {
-        registry.getRequestResponseTracker().startRequest();
+        RequestResponseTracker tracker = registry.getRequestResponseTracker();
+        if (tracker.hasActiveRequest() && canPipeline()) {
+            tracker.startPipelinedRequest();
+        } else {
+            tracker.startRequest();
+        }
 
         JsonObject payload = Json.createObject();
         String csrfToken = registry.getMessageHandler().getCsrfToken();
@@ -140,10 +161,29 @@ public class MessageSender {
             }
         }
 
+        JsonObject metrics = registry.getClientMetrics().takeReport();
+        if (metrics != null) {
+            payload.put(ApplicationConstants.CLIENT_METRICS, metrics);
+        }
+
         send(payload);
 
     }
 
+    /**
+     * Checks whether another message may be sent before the responses to the
+     * active requests have arrived. Only a bidirectional push connection
+     * guarantees that the server receives the messages in the order their
+     * client-to-server ids were assigned.
+     */
+    private boolean canPipeline() {
+        return push != null && push.isActive() && push.isBidirectional()
+                && registry.getRequestResponseTracker()
+                        .getActiveRequestCount() < registry
+                                .getPushConfiguration()
+                                .getMaxInFlightMessages();
+    }
+
     /**
      * Sends an asynchronous or synchronous UIDL request to the server using the
      * given URI.
@@ -218,6 +258,7 @@ public class MessageSender {
      */
     public void resynchronize() {
         Console.log("Resynchronizing from server");
+        registry.getClientMetrics().resynchronized();
         JsonObject resyncParam = Json.createObject();
         resyncParam.put(ApplicationConstants.RESYNCHRONIZE_ID, true);
         send(Json.createArray(), resyncParam);
@@ -115,6 +115,20 @@ public class PushConfiguration {
                 PushConfigurationMap.ALWAYS_USE_XHR_TO_SERVER));
     }
 
+    /**
+     * Gets the maximum number of messages that may be sent to the server
+     * through a bidirectional push connection without waiting for the
+     * responses to the previous ones.
+     *
+     * @return the maximum number of messages in flight, at least one
+     */
+    public int getMaxInFlightMessages() {
+        return Math.max(1, getConfigurationMap()
+                .getProperty(PushConfigurationMap.MAX_IN_FLIGHT_MESSAGES_KEY)
+                .getValueOrDefault(
+                        PushConfigurationMap.MAX_IN_FLIGHT_MESSAGES_DEFAULT));
+    }
+
     /**
      * Gets all configured push parameters.
      *
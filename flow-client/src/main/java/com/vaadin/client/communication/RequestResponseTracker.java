@@ -36,7 +36,7 @@ import com.vaadin.client.gwt.com.google.web.bindery.event.shared.SimpleEventBus;
  */
 public class RequestResponseTracker {
 
-    private boolean hasActiveRequest = false;
+    private int activeRequests = 0;
     private final Registry registry;
     private EventBus eventBus = new SimpleEventBus();
 
@@ -59,11 +59,22 @@ public class RequestResponseTracker {
      * Fires a {@link RequestStartingEvent}.
      */
     public void startRequest() {
-        if (hasActiveRequest) {
+        if (hasActiveRequest()) {
             throw new IllegalStateException(
                     "Trying to start a new request while another is active");
         }
-        hasActiveRequest = true;
+        startPipelinedRequest();
+    }
+
+    /**
+     * Marks that a new request has started while previous requests may still
+     * be waiting for their responses. Only used for messages sent through a
+     * bidirectional push connection, which keeps them in order.
+     * <p>
+     * Fires a {@link RequestStartingEvent}.
+     */
+    void startPipelinedRequest() {
+        activeRequests++;
         fireEvent(new RequestStartingEvent());
     }
 
@@ -83,7 +94,16 @@ public class RequestResponseTracker {
      * @return true if there is an active request, false otherwise
      */
     public boolean hasActiveRequest() {
-        return hasActiveRequest;
+        return activeRequests > 0;
+    }
+
+    /**
+     * Gets the number of requests that have been started but not yet ended.
+     *
+     * @return the number of active requests
+     */
+    int getActiveRequestCount() {
+        return activeRequests;
     }
 
     /**
@@ -97,14 +117,13 @@ public class RequestResponseTracker {
      * Fires a {@link ResponseHandlingEndedEvent}.
      */
     public void endRequest() {
-        if (!hasActiveRequest) {
+        if (!hasActiveRequest()) {
             throw new IllegalStateException(
                     "endRequest called when no request is active");
         }
         // After sendInvocationsToServer() there may be a new active
-        // request, so we must set hasActiveRequest to false before, not after,
-        // the call.
-        hasActiveRequest = false;
+        // request, so we must decrease the count before, not after, the call.
+        activeRequests--;
 
         if (registry.getUILifecycle().isRunning()
                 && registry.getServerRpcQueue().isFlushPending()) {
@@ -18,9 +18,12 @@ package com.vaadin.client.communication;
 import com.google.gwt.core.client.Scheduler;
 import com.vaadin.client.Console;
 import com.vaadin.client.Registry;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.Json;
 import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -66,9 +69,54 @@ public class ServerRpcQueue {
                     "Trying to invoke method on not yet started or stopped application");
             return;
         }
+        int index = findPendingMapSync(invocation);
+        if (index != -1) {
+            // Moved to the end to keep the order the server would use when
+            // coalescing the syncs itself
+            pendingInvocations.remove(index);
+        }
         pendingInvocations.set(pendingInvocations.length(), invocation);
     }
 
+    /**
+     * Finds a pending map sync for the same node property as the given
+     * invocation. Only the last synced value of a property is relevant for
+     * the server, so the pending one can be dropped when a new value is
+     * added.
+     *
+     * @return the index of the pending sync, or -1 if there is none
+     */
+    private int findPendingMapSync(JsonValue invocation) {
+        if (invocation.getType() != JsonType.OBJECT) {
+            return -1;
+        }
+        JsonObject sync = (JsonObject) invocation;
+        if (!JsonConstants.RPC_TYPE_MAP_SYNC
+                .equals(sync.getString(JsonConstants.RPC_TYPE))) {
+            return -1;
+        }
+        for (int i = 0; i < pendingInvocations.length(); i++) {
+            JsonValue pending = pendingInvocations.get(i);
+            if (pending.getType() == JsonType.OBJECT
+                    && isSameProperty(sync, (JsonObject) pending)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSameProperty(JsonObject sync,
+            JsonObject pending) {
+        return JsonConstants.RPC_TYPE_MAP_SYNC
+                .equals(pending.getString(JsonConstants.RPC_TYPE))
+                && sync.getNumber(JsonConstants.RPC_NODE) == pending
+                        .getNumber(JsonConstants.RPC_NODE)
+                && sync.getNumber(JsonConstants.RPC_FEATURE) == pending
+                        .getNumber(JsonConstants.RPC_FEATURE)
+                && sync.getString(JsonConstants.RPC_PROPERTY).equals(
+                        pending.getString(JsonConstants.RPC_PROPERTY));
+    }
+
     /**
      * Clears the queue.
      */
@@ -23,6 +23,7 @@ import com.vaadin.client.Profiler;
 import com.vaadin.client.Registry;
 import com.vaadin.client.ValueMap;
 import com.vaadin.client.WidgetUtil;
+import com.vaadin.client.flow.collection.JsArray;
 import com.vaadin.client.gwt.elemental.js.util.Xhr;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.JsonConstants;
@@ -120,8 +121,9 @@ public class XhrConnection {
             // for(;;);["+ realJson +"]"
             String responseText = xhr.getResponseText();
 
-            ValueMap json = MessageHandler.parseWrappedJson(responseText);
-            if (json == null) {
+            JsArray<ValueMap> messages = MessageHandler
+                    .parseWrappedJsonMessages(responseText);
+            if (messages == null || messages.isEmpty()) {
                 // Invalid string (not wrapped as expected or can't parse)
                 registry.getConnectionStateHandler().xhrInvalidContent(
                         new XhrConnectionError(xhr, payload, null));
@@ -130,7 +132,11 @@ public class XhrConnection {
 
             registry.getConnectionStateHandler().xhrOk();
             Console.log("Received xhr message: " + responseText);
-            registry.getMessageHandler().handleMessage(json);
+            // Several messages are received when the server replays messages
+            // that were not received earlier
+            for (int i = 0; i < messages.length(); i++) {
+                registry.getMessageHandler().handleMessage(messages.get(i));
+            }
         }
 
         /**
@@ -105,8 +105,7 @@ public class Reactive {
             while (hasFlushListeners() || hasPostFlushListeners()) {
                 // Purge all flush listeners
                 while (hasFlushListeners()) {
-                    FlushListener oldestListener = flushListeners.remove(0);
-                    oldestListener.flush();
+                    flushBatch();
                 }
 
                 // Purge one post flush listener, then look if there are new flush
@@ -121,6 +120,35 @@ public class Reactive {
         }
     }
 
+    /**
+     * Runs the currently registered flush listeners in registration order.
+     * Listeners added meanwhile are collected in a new array, which avoids
+     * shifting the array once per listener when a large message has queued
+     * thousands of them.
+     */
+    private static void flushBatch() {
+        JsArray<FlushListener> batch = flushListeners;
+        flushListeners = null;
+        int length = batch.length();
+        int index = 0;
+        try {
+            while (index < length) {
+                // Advance before running so a failing listener is dropped
+                batch.get(index++).flush();
+            }
+        } finally {
+            if (index < length) {
+                // Keep the rest ahead of listeners added during this batch
+                JsArray<FlushListener> remaining = batch.splice(index,
+                        length - index);
+                if (flushListeners != null) {
+                    remaining.pushArray(flushListeners);
+                }
+                flushListeners = remaining;
+            }
+        }
+    }
+
     private static boolean hasPostFlushListeners() {
         return postFlushListeners != null && !postFlushListeners.isEmpty();
     }
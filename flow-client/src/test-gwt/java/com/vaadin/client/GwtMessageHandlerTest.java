@@ -23,6 +23,7 @@ import java.util.Set;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.user.client.Timer;
 
+import com.vaadin.client.communication.ClientMetrics;
 import com.vaadin.client.communication.MessageHandler;
 import com.vaadin.client.communication.RequestResponseTracker;
 import com.vaadin.client.flow.StateTree;
@@ -128,6 +129,7 @@ public class GwtMessageHandlerTest extends ClientEngineTestBase {
             {
                 set(RequestResponseTracker.class,
                         new TestRequestResponseTracker(this));
+                set(ClientMetrics.class, new ClientMetrics(this));
                 set(DependencyLoader.class, new DependencyLoader(this));
                 set(ResourceLoader.class, new TestResourceLoader(this));
                 set(URIResolver.class, new TestUriResolver(this));
@@ -6,6 +6,9 @@ import junit.framework.TestSuite;
 import com.google.gwt.junit.tools.GWTTestSuite;
 
 import com.vaadin.client.communication.GwtDefaultReconnectDialogTest;
+import com.vaadin.client.communication.GwtMessageSenderTest;
+import com.vaadin.client.communication.GwtRequestResponseTrackerTest;
+import com.vaadin.client.communication.GwtServerRpcQueueTest;
 import com.vaadin.client.flow.GwtBasicElementBinderTest;
 import com.vaadin.client.flow.GwtEventHandlerTest;
 import com.vaadin.client.flow.GwtMultipleBindingTest;
@@ -42,6 +45,9 @@ public class GwtSuite extends GWTTestSuite {
         suite.addTestSuite(GwtNativeFunctionTest.class);
         suite.addTestSuite(GwtRouterLinkHandlerTest.class);
         suite.addTestSuite(GwtDefaultReconnectDialogTest.class);
+        suite.addTestSuite(GwtMessageSenderTest.class);
+        suite.addTestSuite(GwtRequestResponseTrackerTest.class);
+        suite.addTestSuite(GwtServerRpcQueueTest.class);
         suite.addTestSuite(GwtStateNodeTest.class);
         suite.addTestSuite(GwtStateTreeTest.class);
         suite.addTestSuite(GwtDomApiTest.class);
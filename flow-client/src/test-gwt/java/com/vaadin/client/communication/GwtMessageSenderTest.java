@@ -0,0 +1,167 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.client.ClientEngineTestBase;
+import com.vaadin.client.Command;
+import com.vaadin.client.LoadingIndicator;
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+import com.vaadin.client.flow.StateTree;
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.flow.internal.nodefeature.NodeFeatures;
+import com.vaadin.flow.internal.nodefeature.PushConfigurationMap;
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class GwtMessageSenderTest extends ClientEngineTestBase {
+
+    private Registry registry;
+    private TestPushConnection push;
+    private MessageSender sender;
+
+    private static class TestPushConnection implements PushConnection {
+
+        private final JsArray<JsonObject> payloads = JsCollections.array();
+        private boolean bidirectional = true;
+
+        @Override
+        public void push(JsonObject payload) {
+            payloads.push(payload);
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public void disconnect(Command command) {
+            command.execute();
+        }
+
+        @Override
+        public String getTransportType() {
+            return "websocket";
+        }
+
+        @Override
+        public boolean isBidirectional() {
+            return bidirectional;
+        }
+    }
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+
+        push = new TestPushConnection();
+        UILifecycle lifecycle = new UILifecycle();
+        lifecycle.setState(UIState.RUNNING);
+        registry = new Registry() {
+            {
+                set(UILifecycle.class, lifecycle);
+                set(StateTree.class, new StateTree(this));
+                set(PushConfiguration.class, new PushConfiguration(this));
+                set(MessageHandler.class, new MessageHandler(this));
+                set(ServerRpcQueue.class, new ServerRpcQueue(this));
+                set(LoadingIndicator.class, new LoadingIndicator());
+                set(RequestResponseTracker.class,
+                        new RequestResponseTracker(this));
+                set(ClientMetrics.class, new ClientMetrics(this));
+                set(XhrConnection.class, new XhrConnection(this) {
+                    @Override
+                    public void send(JsonObject payload) {
+                        push.payloads.push(payload);
+                    }
+                });
+                set(MessageSender.class,
+                        new MessageSender(this, reg -> push));
+            }
+        };
+        sender = registry.getMessageSender();
+        sender.setPushEnabled(true);
+    }
+
+    public void testSendInvocations_defaultMaxInFlight_waitsForResponse() {
+        sendInvocation();
+        sendInvocation();
+
+        assertEquals(1, push.payloads.length());
+        assertEquals(1, registry.getRequestResponseTracker()
+                .getActiveRequestCount());
+        assertFalse(registry.getServerRpcQueue().isEmpty());
+    }
+
+    public void testSendInvocations_maxInFlightReached_waitsForResponse() {
+        setMaxInFlightMessages(2);
+
+        sendInvocation();
+        sendInvocation();
+        sendInvocation();
+
+        assertEquals(2, push.payloads.length());
+        assertEquals(0, getClientToServerId(0));
+        assertEquals(1, getClientToServerId(1));
+        assertEquals(2, registry.getRequestResponseTracker()
+                .getActiveRequestCount());
+        assertFalse(registry.getServerRpcQueue().isEmpty());
+
+        registry.getRequestResponseTracker().endRequest();
+        sender.sendInvocationsToServer();
+
+        assertEquals(3, push.payloads.length());
+        assertEquals(2, getClientToServerId(2));
+        assertEquals(2, registry.getRequestResponseTracker()
+                .getActiveRequestCount());
+        assertTrue(registry.getServerRpcQueue().isEmpty());
+    }
+
+    public void testSendInvocations_unidirectionalPush_notPipelined() {
+        setMaxInFlightMessages(2);
+        push.bidirectional = false;
+
+        sendInvocation();
+        sendInvocation();
+
+        assertEquals(1, push.payloads.length());
+        assertEquals(1, registry.getRequestResponseTracker()
+                .getActiveRequestCount());
+    }
+
+    private void setMaxInFlightMessages(int maxInFlightMessages) {
+        registry.getStateTree().getRootNode()
+                .getMap(NodeFeatures.UI_PUSHCONFIGURATION)
+                .getProperty(PushConfigurationMap.MAX_IN_FLIGHT_MESSAGES_KEY)
+                .setValue((double) maxInFlightMessages);
+    }
+
+    private void sendInvocation() {
+        JsonObject invocation = Json.createObject();
+        invocation.put("type", "event");
+        registry.getServerRpcQueue().add(invocation);
+        sender.sendInvocationsToServer();
+    }
+
+    private int getClientToServerId(int index) {
+        return (int) push.payloads.get(index)
+                .getNumber(ApplicationConstants.CLIENT_TO_SERVER_ID);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.client.ClientEngineTestBase;
+import com.vaadin.client.LoadingIndicator;
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+
+public class GwtRequestResponseTrackerTest extends ClientEngineTestBase {
+
+    private RequestResponseTracker tracker;
+    private int startingEvents;
+    private int endedEvents;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+
+        UILifecycle lifecycle = new UILifecycle();
+        lifecycle.setState(UIState.RUNNING);
+        Registry registry = new Registry() {
+            {
+                set(UILifecycle.class, lifecycle);
+                set(ServerRpcQueue.class, new ServerRpcQueue(this));
+                set(LoadingIndicator.class, new LoadingIndicator());
+                set(RequestResponseTracker.class,
+                        new RequestResponseTracker(this));
+            }
+        };
+        tracker = registry.getRequestResponseTracker();
+        tracker.addRequestStartingHandler(event -> startingEvents++);
+        tracker.addResponseHandlingEndedHandler(event -> endedEvents++);
+    }
+
+    public void testStartPipelinedRequest_countsActiveRequests() {
+        tracker.startRequest();
+        tracker.startPipelinedRequest();
+        tracker.startPipelinedRequest();
+
+        assertTrue(tracker.hasActiveRequest());
+        assertEquals(3, tracker.getActiveRequestCount());
+        assertEquals(3, startingEvents);
+
+        tracker.endRequest();
+        tracker.endRequest();
+
+        assertTrue(tracker.hasActiveRequest());
+        assertEquals(1, tracker.getActiveRequestCount());
+        assertEquals(2, endedEvents);
+
+        tracker.endRequest();
+
+        assertFalse(tracker.hasActiveRequest());
+        assertEquals(0, tracker.getActiveRequestCount());
+        assertEquals(3, endedEvents);
+    }
+
+    public void testStartPipelinedRequest_noActiveRequest_startsRequest() {
+        tracker.startPipelinedRequest();
+
+        assertEquals(1, tracker.getActiveRequestCount());
+        assertEquals(1, startingEvents);
+    }
+
+    public void testStartRequest_pipelinedRequestActive_throws() {
+        tracker.startPipelinedRequest();
+        try {
+            tracker.startRequest();
+            fail("Starting a request should fail while another is active");
+        } catch (IllegalStateException expected) {
+            assertEquals(1, tracker.getActiveRequestCount());
+        }
+    }
+
+    public void testEndRequest_noActiveRequest_throws() {
+        try {
+            tracker.endRequest();
+            fail("Ending a request should fail when none is active");
+        } catch (IllegalStateException expected) {
+            assertEquals(0, endedEvents);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.client.ClientEngineTestBase;
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+public class GwtServerRpcQueueTest extends ClientEngineTestBase {
+
+    private ServerRpcQueue queue;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+
+        UILifecycle lifecycle = new UILifecycle();
+        lifecycle.setState(UIState.RUNNING);
+        Registry registry = new Registry() {
+            {
+                set(UILifecycle.class, lifecycle);
+            }
+        };
+        queue = new ServerRpcQueue(registry);
+    }
+
+    public void testAdd_sameProperty_pendingSyncReplaced() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(1, "value", "ab"));
+
+        JsonArray invocations = queue.toJson();
+        assertEquals(1, invocations.length());
+        assertEquals("ab", invocations.getObject(0)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    public void testAdd_sameProperty_syncMovedToEnd() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(2, "value", "b"));
+        queue.add(createSync(1, "value", "ab"));
+
+        JsonArray invocations = queue.toJson();
+        assertEquals(2, invocations.length());
+        assertEquals(2, (int) invocations.getObject(0)
+                .getNumber(JsonConstants.RPC_NODE));
+        assertEquals("ab", invocations.getObject(1)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    public void testAdd_differentProperty_bothKept() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(1, "checked", "b"));
+
+        assertEquals(2, queue.size());
+    }
+
+    public void testAdd_notMapSync_neverReplaced() {
+        JsonObject event = Json.createObject();
+        event.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_EVENT);
+        event.put(JsonConstants.RPC_NODE, 1);
+        event.put(JsonConstants.RPC_EVENT_TYPE, "click");
+
+        queue.add(event);
+        queue.add(event);
+
+        assertEquals(2, queue.size());
+    }
+
+    private static JsonObject createSync(int node, String property,
+            String value) {
+        JsonObject sync = Json.createObject();
+        sync.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_MAP_SYNC);
+        sync.put(JsonConstants.RPC_NODE, node);
+        sync.put(JsonConstants.RPC_FEATURE, 1);
+        sync.put(JsonConstants.RPC_PROPERTY, property);
+        sync.put(JsonConstants.RPC_PROPERTY_VALUE, value);
+        return sync;
+    }
+}
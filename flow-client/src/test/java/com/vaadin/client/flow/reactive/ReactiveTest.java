@@ -62,6 +62,28 @@ public class ReactiveTest {
         Assert.assertEquals("Listener is not run again", 1, count.get());
     }
 
+    @Test
+    public void failingFlushListener_laterListenersKeptInOrder() {
+        List<String> order = new ArrayList<>();
+        Reactive.addFlushListener(() -> {
+            order.add("failing");
+            Reactive.addFlushListener(() -> order.add("added"));
+            throw new IllegalStateException();
+        });
+        Reactive.addFlushListener(() -> order.add("second"));
+
+        try {
+            Reactive.flush();
+            Assert.fail("Listener exception should be propagated");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        Reactive.flush();
+
+        Assert.assertEquals(Arrays.asList("failing", "second", "added"),
+                order);
+    }
+
     @Test
     public void testCollectEvents() {
         TestReactiveEventRouter router = new TestReactiveEventRouter();
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
+import com.vaadin.flow.dom.DebouncePhase;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Renders the items of a data provider as children of a scrollable element,
+ * creating components only for the items in the visible part of the element
+ * and a few items around it.
+ * <p>
+ * All items must have the same height, given in pixels. The space taken by
+ * the items which are not rendered is filled with two spacer elements, so the
+ * scroll bar of the container behaves as if all items were present. The
+ * container reports its scroll position to the server while it is scrolled,
+ * and the rendered window is updated accordingly.
+ * <p>
+ * The container must have a fixed height and should not have any other
+ * children.
+ *
+ * @param <T>
+ *            the item type
+ * @author Vaadin Ltd
+ * @since 2.3
+ */
+public class VirtualChildren<T> implements Serializable {
+
+    /**
+     * The default number of items rendered before and after the visible
+     * items.
+     */
+    public static final int DEFAULT_OVERSCAN = 10;
+
+    // Used until the container has reported its size
+    private static final int DEFAULT_VIEWPORT_HEIGHT = 1000;
+
+    private static final int SCROLL_DEBOUNCE = 100;
+
+    // The viewport size is reported by the client, so a crafted event must
+    // not make the server create components for all items
+    static final int MAX_VIEWPORT_ITEMS = 1000;
+
+    private final Element container;
+    private final int itemHeight;
+    private final SerializableFunction<T, ? extends Component> componentFactory;
+    private final Element topSpacer = new Element("div");
+    private final Element bottomSpacer = new Element("div");
+
+    private DataProvider<T, ?> dataProvider = DataProvider.ofItems();
+    private Registration dataProviderListenerRegistration;
+    private int overscan = DEFAULT_OVERSCAN;
+
+    private int size;
+    private int scrollTop;
+    private int viewportHeight = DEFAULT_VIEWPORT_HEIGHT;
+
+    // The rendered items are those with an index in [start, end)
+    private int start;
+    private int end;
+    private final ArrayList<T> renderedItems = new ArrayList<>();
+    private final ArrayList<Component> rendered = new ArrayList<>();
+
+    /**
+     * Creates a new instance rendering items into the given container.
+     *
+     * @param container
+     *            the scrollable element to render the items into, not
+     *            <code>null</code>
+     * @param itemHeight
+     *            the height of each item component in pixels, greater than 0
+     * @param componentFactory
+     *            the function creating a component for an item, not
+     *            <code>null</code>
+     */
+    public VirtualChildren(Element container, int itemHeight,
+            SerializableFunction<T, ? extends Component> componentFactory) {
+        if (itemHeight <= 0) {
+            throw new IllegalArgumentException(
+                    "Item height must be greater than 0");
+        }
+        this.container = Objects.requireNonNull(container,
+                "Container cannot be null");
+        this.itemHeight = itemHeight;
+        this.componentFactory = Objects.requireNonNull(componentFactory,
+                "Component factory cannot be null");
+
+        container.getStyle().set("overflow-y", "auto");
+        container.appendChild(topSpacer, bottomSpacer);
+
+        container.addEventListener("scroll",
+                event -> setViewport(
+                        (int) event.getEventData()
+                                .getNumber("element.scrollTop"),
+                        (int) event.getEventData()
+                                .getNumber("element.clientHeight")))
+                .addEventData("element.scrollTop")
+                .addEventData("element.clientHeight")
+                .debounce(SCROLL_DEBOUNCE, DebouncePhase.LEADING,
+                        DebouncePhase.INTERMEDIATE, DebouncePhase.TRAILING);
+
+        container.addAttachListener(event -> {
+            handleAttach();
+            // Make the container report its actual size once it is shown
+            container.executeJs("this.dispatchEvent(new Event('scroll'))");
+        });
+        container.addDetachListener(event -> handleDetach());
+    }
+
+    /**
+     * Sets the data provider of the items to render. The data provider is
+     * queried only for the items which are rendered.
+     *
+     * @param dataProvider
+     *            the data provider, not <code>null</code>
+     */
+    public void setDataProvider(DataProvider<T, ?> dataProvider) {
+        Objects.requireNonNull(dataProvider, "Data provider cannot be null");
+        handleDetach();
+        this.dataProvider = dataProvider;
+        if (container.getNode().isAttached()) {
+            handleAttach();
+        } else {
+            reset();
+        }
+    }
+
+    /**
+     * Gets the data provider of the items to render.
+     *
+     * @return the data provider, not <code>null</code>
+     */
+    public DataProvider<T, ?> getDataProvider() {
+        return dataProvider;
+    }
+
+    /**
+     * Sets the number of items to render before and after the visible items,
+     * so that short scrolls do not show empty space while the server
+     * responds.
+     *
+     * @param overscan
+     *            the number of extra items on each side, not negative
+     */
+    public void setOverscan(int overscan) {
+        if (overscan < 0) {
+            throw new IllegalArgumentException(
+                    "Overscan cannot be negative");
+        }
+        this.overscan = overscan;
+        updateWindow();
+    }
+
+    /**
+     * Gets the number of items rendered before and after the visible items.
+     *
+     * @return the number of extra items on each side
+     */
+    public int getOverscan() {
+        return overscan;
+    }
+
+    /**
+     * Gets the components of the currently rendered items, in item order.
+     *
+     * @return a list of the rendered components
+     */
+    public List<Component> getRenderedComponents() {
+        return new ArrayList<>(rendered);
+    }
+
+    /**
+     * Gets the index of the first rendered item.
+     *
+     * @return the index of the first rendered item
+     */
+    public int getRenderedStart() {
+        return start;
+    }
+
+    /**
+     * Updates the rendered items to match the scroll position and size of
+     * the container. The size is capped to {@value #MAX_VIEWPORT_ITEMS}
+     * items.
+     *
+     * @param scrollTop
+     *            the scroll position of the container in pixels
+     * @param viewportHeight
+     *            the visible height of the container in pixels
+     */
+    void setViewport(int scrollTop, int viewportHeight) {
+        this.scrollTop = Math.max(0, scrollTop);
+        this.viewportHeight = (int) Math.max(0, Math.min(viewportHeight,
+                (long) MAX_VIEWPORT_ITEMS * itemHeight));
+        updateWindow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleAttach() {
+        dataProviderListenerRegistration = dataProvider
+                .addDataProviderListener(event -> {
+                    if (event instanceof DataRefreshEvent) {
+                        refresh(((DataRefreshEvent<T>) event).getItem());
+                    } else {
+                        reset();
+                    }
+                });
+        // Changes made while detached have not been listened to
+        reset();
+    }
+
+    private void handleDetach() {
+        if (dataProviderListenerRegistration != null) {
+            dataProviderListenerRegistration.remove();
+            dataProviderListenerRegistration = null;
+        }
+    }
+
+    private void refresh(T item) {
+        Object id = dataProvider.getId(item);
+        for (int i = 0; i < renderedItems.size(); i++) {
+            if (Objects.equals(id,
+                    dataProvider.getId(renderedItems.get(i)))) {
+                Component component = componentFactory.apply(item);
+                renderedItems.set(i, item);
+                container.setChild(i + 1, component.getElement());
+                rendered.set(i, component);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void reset() {
+        size = dataProvider.size(new Query());
+        removeItems(rendered.size());
+        start = 0;
+        end = 0;
+        updateWindow();
+    }
+
+    private void updateWindow() {
+        // Computed as long since the sums can overflow for large positions
+        long firstVisible = scrollTop / itemHeight;
+        long lastVisible = ((long) scrollTop + viewportHeight + itemHeight
+                - 1) / itemHeight;
+        int newEnd = (int) Math.min(size, lastVisible + overscan);
+        int newStart = (int) Math.max(0,
+                Math.min(firstVisible - overscan, newEnd));
+
+        if (newStart >= end || newEnd <= start) {
+            removeItems(rendered.size());
+            start = newStart;
+            end = newStart;
+        } else {
+            // Keep the components of the overlapping items
+            while (start < newStart) {
+                removeItem(0);
+                start++;
+            }
+            while (end > newEnd) {
+                removeItem(rendered.size() - 1);
+                end--;
+            }
+        }
+        if (newStart < start) {
+            insertItems(0, fetch(newStart, start - newStart));
+            start = newStart;
+        }
+        if (end < newEnd) {
+            insertItems(rendered.size(), fetch(end, newEnd - end));
+            end = newEnd;
+        }
+
+        topSpacer.getStyle().set("height", (long) start * itemHeight + "px");
+        bottomSpacer.getStyle().set("height",
+                (long) (size - end) * itemHeight + "px");
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private List<T> fetch(int offset, int limit) {
+        return (List<T>) dataProvider
+                .fetch(new Query(offset, limit, Collections.emptyList(), null,
+                        null))
+                .collect(Collectors.toList());
+    }
+
+    private void insertItems(int index, List<T> items) {
+        List<Component> components = new ArrayList<>(items.size());
+        List<Element> elements = new ArrayList<>(items.size());
+        for (T item : items) {
+            Component component = componentFactory.apply(item);
+            components.add(component);
+            elements.add(component.getElement());
+        }
+        renderedItems.addAll(index, items);
+        rendered.addAll(index, components);
+        // The top spacer is the first child of the container
+        container.insertChild(index + 1, elements);
+    }
+
+    private void removeItem(int index) {
+        renderedItems.remove(index);
+        container.removeChild(rendered.remove(index).getElement());
+    }
+
+    private void removeItems(int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            removeItem(i);
+        }
+    }
+}
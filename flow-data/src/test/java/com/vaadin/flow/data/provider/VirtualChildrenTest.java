@@ -0,0 +1,165 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
+
+public class VirtualChildrenTest {
+
+    @Tag("span")
+    private static class Item extends Component {
+        private Item(Integer value) {
+            getElement().setText(String.valueOf(value));
+        }
+    }
+
+    private UI ui;
+    private Element container;
+    private VirtualChildren<Integer> children;
+    private List<Integer> items;
+
+    @Before
+    public void setup() {
+        ui = new UI();
+        container = new Element("div");
+        children = new VirtualChildren<>(container, 20, Item::new);
+        ui.getElement().appendChild(container);
+        children.setOverscan(5);
+        items = IntStream.range(0, 50000).boxed()
+                .collect(Collectors.toList());
+        children.setDataProvider(DataProvider.ofCollection(items));
+        children.setViewport(0, 200);
+    }
+
+    @Test
+    public void onlyVisibleItemsAndOverscanRendered() {
+        // 10 visible items and 5 after them
+        assertRendered(0, 15);
+        Assert.assertEquals("0px",
+                container.getChild(0).getStyle().get("height"));
+        Assert.assertEquals((50000 - 15) * 20 + "px",
+                container.getChild(container.getChildCount() - 1)
+                        .getStyle().get("height"));
+    }
+
+    @Test
+    public void scroll_overlappingWindow_existingComponentsKept() {
+        Component first = children.getRenderedComponents().get(10);
+
+        children.setViewport(10 * 20, 200);
+
+        assertRendered(5, 25);
+        Assert.assertSame(first, children.getRenderedComponents().get(5));
+    }
+
+    @Test
+    public void scroll_farAway_windowReplaced() {
+        children.setViewport(40000 * 20, 200);
+
+        assertRendered(39995, 40015);
+        Assert.assertEquals("799900px",
+                container.getChild(0).getStyle().get("height"));
+    }
+
+    @Test
+    public void hugeViewport_renderedItemsCapped() {
+        children.setViewport(0, Integer.MAX_VALUE);
+
+        assertRendered(0, VirtualChildren.MAX_VIEWPORT_ITEMS + 5);
+    }
+
+    @Test
+    public void hugeScrollPosition_noOverflow() {
+        children.setViewport(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        Assert.assertEquals(0, children.getRenderedComponents().size());
+        Assert.assertEquals(50000 * 20 + "px",
+                container.getChild(0).getStyle().get("height"));
+        Assert.assertEquals("0px",
+                container.getChild(container.getChildCount() - 1)
+                        .getStyle().get("height"));
+    }
+
+    @Test
+    public void dataChanged_windowRendered() {
+        items.remove(0);
+        children.getDataProvider().refreshAll();
+
+        Assert.assertEquals(15, children.getRenderedComponents().size());
+        Assert.assertEquals("1",
+                children.getRenderedComponents().get(0).getElement()
+                        .getText());
+    }
+
+    @Test
+    public void itemRefreshed_onlyItemComponentReplaced() {
+        List<Component> before = children.getRenderedComponents();
+
+        children.getDataProvider().refreshItem(3);
+
+        assertRendered(0, 15);
+        List<Component> after = children.getRenderedComponents();
+        Assert.assertNotSame(before.get(3), after.get(3));
+        for (int i = 0; i < after.size(); i++) {
+            if (i != 3) {
+                Assert.assertSame(before.get(i), after.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void dataChangedWhileDetached_windowRenderedWhenAttached() {
+        ui.getElement().removeChild(container);
+        items.remove(0);
+        children.getDataProvider().refreshAll();
+
+        Assert.assertEquals("0",
+                children.getRenderedComponents().get(0).getElement()
+                        .getText());
+
+        ui.getElement().appendChild(container);
+
+        Assert.assertEquals(15, children.getRenderedComponents().size());
+        Assert.assertEquals("1",
+                children.getRenderedComponents().get(0).getElement()
+                        .getText());
+    }
+
+    private void assertRendered(int start, int end) {
+        List<Component> rendered = children.getRenderedComponents();
+        Assert.assertEquals(start, children.getRenderedStart());
+        Assert.assertEquals(end - start, rendered.size());
+        // Spacers before and after the items
+        Assert.assertEquals(rendered.size() + 2, container.getChildCount());
+        for (int i = 0; i < rendered.size(); i++) {
+            Assert.assertEquals(String.valueOf(start + i),
+                    rendered.get(i).getElement().getText());
+            Assert.assertEquals(rendered.get(i).getElement(),
+                    container.getChild(i + 1));
+        }
+    }
+}
@@ -15,6 +15,10 @@
  */
 package com.vaadin.flow.component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import org.slf4j.LoggerFactory;
@@ -47,11 +51,32 @@ public interface HasComponents extends HasElement, HasEnabled {
      */
     default void add(Component... components) {
         Objects.requireNonNull(components, "Components should not be null");
+        add(Arrays.asList(components));
+    }
+
+    /**
+     * Adds the given components as children of this component.
+     * <p>
+     * In case the any of the specified components has already been added to
+     * another parent, it will be removed from there and added to this one.
+     * <p>
+     * The default implementation appends the elements of all the components
+     * at once and does not call {@link #add(Component...)}. A component
+     * overriding {@link #add(Component...)} e.g. to validate or wrap its
+     * children should override this method as well.
+     *
+     * @param components
+     *            the components to add
+     */
+    default void add(Collection<? extends Component> components) {
+        Objects.requireNonNull(components, "Components should not be null");
+        List<Element> elements = new ArrayList<>(components.size());
         for (Component component : components) {
             Objects.requireNonNull(component,
                     "Component to add cannot be null");
-            getElement().appendChild(component.getElement());
+            elements.add(component.getElement());
         }
+        getElement().appendChild(elements);
     }
 
     /**
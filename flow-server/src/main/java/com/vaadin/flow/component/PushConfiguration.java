@@ -158,7 +158,41 @@ public interface PushConfiguration extends Serializable {
      * @return the URL to use for push requests, or null to use to default
      */
     String getPushUrl();
-    
+
+    /**
+     * Sets the maximum number of messages the client may send to the server
+     * without waiting for the responses to the previous ones.
+     * <p>
+     * Values larger than one only have an effect while client to server
+     * messages are sent through a bidirectional push connection (websocket),
+     * which delivers them to the server in the order they were sent. With XHR
+     * the client always waits for the response before sending again.
+     * <p>
+     * The default is one. The default implementation does not support
+     * changing the value.
+     *
+     * @param maxInFlightMessages
+     *            the maximum number of messages in flight, at least one
+     * @throws UnsupportedOperationException
+     *             if the implementation does not support changing the value
+     */
+    default void setMaxInFlightMessages(int maxInFlightMessages) {
+        throw new UnsupportedOperationException(getClass().getName()
+                + " does not support setting the maximum number of messages"
+                + " in flight");
+    }
+
+    /**
+     * Gets the maximum number of messages the client may send to the server
+     * without waiting for the responses to the previous ones.
+     *
+     * @return the maximum number of messages in flight
+     * @see #setMaxInFlightMessages(int)
+     */
+    default int getMaxInFlightMessages() {
+        return PushConfigurationMap.MAX_IN_FLIGHT_MESSAGES_DEFAULT;
+    }
+
     /**
      * Sets the factory that will be used to create new instances of {@link PushConnection}.
      *
@@ -243,6 +277,20 @@ class PushConfigurationImpl implements PushConfiguration {
         return getPushConfigurationMap().getPushUrl();
     }
 
+    @Override
+    public void setMaxInFlightMessages(int maxInFlightMessages) {
+        if (maxInFlightMessages < 1) {
+            throw new IllegalArgumentException(
+                    "The maximum number of messages in flight must be at least one");
+        }
+        getPushConfigurationMap().setMaxInFlightMessages(maxInFlightMessages);
+    }
+
+    @Override
+    public int getMaxInFlightMessages() {
+        return getPushConfigurationMap().getMaxInFlightMessages();
+    }
+
     @Override
     public Transport getTransport() {
         return getPushConfigurationMap().getTransport();
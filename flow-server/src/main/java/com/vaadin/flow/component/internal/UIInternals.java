@@ -16,6 +16,7 @@
 package com.vaadin.flow.component.internal;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,7 +28,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -49,9 +49,11 @@ import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.di.Instantiator;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
+import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.AnnotationReader;
 import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.JsonCodec;
+import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.internal.UrlUtil;
 import com.vaadin.flow.internal.nodefeature.LoadingIndicatorConfigurationMap;
@@ -77,12 +79,15 @@ import com.vaadin.flow.server.WebBrowser;
 import com.vaadin.flow.server.communication.PushConnection;
 import com.vaadin.flow.server.frontend.FallbackChunk;
 import com.vaadin.flow.server.frontend.FallbackChunk.CssImportData;
+import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.shared.communication.PushMode;
 import com.vaadin.flow.theme.AbstractTheme;
 import com.vaadin.flow.theme.NoTheme;
 import com.vaadin.flow.theme.ThemeDefinition;
 
+import elemental.json.JsonObject;
+
 /**
  * Holds UI-specific methods and data which are intended for internal use by the
  * framework.
@@ -161,7 +166,22 @@ public class UIInternals implements Serializable {
      * Updated to the current time whenever the application receives a heartbeat
      * or UIDL request from the client for the related UI.
      */
-    private long lastHeartbeatTimestamp = System.currentTimeMillis();
+    private volatile long lastHeartbeatTimestamp = System.currentTimeMillis();
+
+    /**
+     * Number of registered heartbeat listeners, readable without the session
+     * lock so that heartbeats without listeners can be handled lock-free.
+     */
+    private volatile int heartbeatListenerCount;
+
+    /**
+     * Maximum number of invocations kept for nodes inside inactive elements
+     * which have not been sent yet, see
+     * {@link StateTree#setDeferInactiveSubtrees(boolean)}. Invocations over
+     * this limit are canceled, oldest first, so that a subtree which is never
+     * shown does not collect invocations forever.
+     */
+    static final int MAX_DEFERRED_JS_INVOCATIONS = 1000;
 
     private List<PendingJavaScriptInvocation> pendingJsInvocations = new ArrayList<>();
 
@@ -199,6 +219,12 @@ public class UIInternals implements Serializable {
 
     private byte[] lastProcessedMessageHash = null;
 
+    /*
+     * Most recently sent messages, oldest first, for replaying to a client
+     * which has not received them.
+     */
+    private final ArrayDeque<JsonObject> sentMessages = new ArrayDeque<>();
+
     private String contextRootRelativePath;
 
     private String appId;
@@ -209,6 +235,13 @@ public class UIInternals implements Serializable {
 
     private boolean isFallbackChunkLoaded;
 
+    /*
+     * Component classes whose dependencies have already been added. The
+     * dependencies of a class don't change and the dependency list never
+     * resends a URL, so each class needs to be processed only once.
+     */
+    private final Set<Class<? extends Component>> componentClassesWithDependencies = new HashSet<>();
+
     /**
      * Creates a new instance for the given UI.
      *
@@ -302,6 +335,68 @@ public class UIInternals implements Serializable {
         serverSyncId++;
     }
 
+    /**
+     * Stores a message sent to the client so that it can be replayed if the
+     * client reports that it did not receive it.
+     * <p>
+     * Only the given number of most recent messages are kept. Messages without
+     * a server sync id are not stored.
+     * <p>
+     * This method is intended for managed internal use only.
+     *
+     * @param message
+     *            the message sent to the client, not {@code null}
+     * @param bufferSize
+     *            the maximum number of messages to keep, a non-positive value
+     *            disables storing messages
+     */
+    public void addSentMessage(JsonObject message, int bufferSize) {
+        if (bufferSize <= 0) {
+            sentMessages.clear();
+            return;
+        }
+        if (getSyncId(message) == -1) {
+            return;
+        }
+        sentMessages.addLast(message);
+        while (sentMessages.size() > bufferSize) {
+            sentMessages.removeFirst();
+        }
+    }
+
+    /**
+     * Gets the stored messages sent after the message with the given server
+     * sync id.
+     * <p>
+     * This method is intended for managed internal use only.
+     *
+     * @param lastSeenSyncId
+     *            the server sync id of the last message seen by the client
+     * @return the messages in the order they were sent, or an empty optional if
+     *         some of the messages are no longer stored
+     */
+    public Optional<List<JsonObject>> getSentMessagesAfter(
+            int lastSeenSyncId) {
+        if (lastSeenSyncId == -1 || sentMessages.isEmpty()
+                || getSyncId(sentMessages.getFirst()) > lastSeenSyncId + 1) {
+            return Optional.empty();
+        }
+        List<JsonObject> messages = new ArrayList<>();
+        for (JsonObject message : sentMessages) {
+            if (getSyncId(message) > lastSeenSyncId) {
+                messages.add(message);
+            }
+        }
+        return Optional.of(messages);
+    }
+
+    private static int getSyncId(JsonObject message) {
+        if (!message.hasKey(ApplicationConstants.SERVER_SYNC_ID)) {
+            return -1;
+        }
+        return (int) message.getNumber(ApplicationConstants.SERVER_SYNC_ID);
+    }
+
     /**
      * Returns the timestamp of the last received heartbeat for the related UI.
      * <p>
@@ -333,6 +428,9 @@ public class UIInternals implements Serializable {
      */
     public void setLastHeartbeatTimestamp(long lastHeartbeat) {
         lastHeartbeatTimestamp = lastHeartbeat;
+        if (heartbeatListenerCount == 0) {
+            return;
+        }
         HeartbeatEvent heartbeatEvent = new HeartbeatEvent(ui, lastHeartbeat);
         getListeners(HeartbeatListener.class)
                 .forEach(listener -> listener.heartbeat(heartbeatEvent));
@@ -400,6 +498,10 @@ public class UIInternals implements Serializable {
             this.session = session;
         }
 
+        if (session != null) {
+            stateTree.setDeferInactiveSubtrees(isDeferInactiveSubtrees(session));
+        }
+
         if (session != null)
 
         {
@@ -488,7 +590,32 @@ public class UIInternals implements Serializable {
     }
 
     public Registration addHeartbeatListener(HeartbeatListener listener) {
-        return addListener(HeartbeatListener.class, listener);
+        Registration registration = addListener(HeartbeatListener.class,
+                listener);
+        heartbeatListenerCount++;
+        return new Registration() {
+            private boolean removed;
+
+            @Override
+            public void remove() {
+                if (!removed) {
+                    removed = true;
+                    registration.remove();
+                    heartbeatListenerCount--;
+                }
+            }
+        };
+    }
+
+    /**
+     * Checks whether any heartbeat listeners are registered for the related
+     * UI. Can be called without holding the session lock.
+     *
+     * @return <code>true</code> if there are heartbeat listeners,
+     *         <code>false</code> otherwise
+     */
+    public boolean hasHeartbeatListeners() {
+        return heartbeatListenerCount > 0;
     }
 
     private <E> Registration addListener(Class<E> handler, E listener) {
@@ -560,15 +687,68 @@ public class UIInternals implements Serializable {
             return Collections.emptyList();
         }
 
-        List<PendingJavaScriptInvocation> currentList = getPendingJavaScriptInvocations()
-                .peek(PendingJavaScriptInvocation::setSentToBrowser)
-                .collect(Collectors.toList());
+        List<PendingJavaScriptInvocation> currentList = new ArrayList<>();
+        List<PendingJavaScriptInvocation> deferred = new ArrayList<>();
+        getPendingJavaScriptInvocations().forEach(invocation -> {
+            if (isWaitingForClientSide(invocation)) {
+                deferred.add(invocation);
+            } else {
+                invocation.setSentToBrowser();
+                currentList.add(invocation);
+            }
+        });
+
+        int overLimit = deferred.size() - MAX_DEFERRED_JS_INVOCATIONS;
+        if (overLimit > 0) {
+            List<PendingJavaScriptInvocation> dropped = deferred.subList(0,
+                    overLimit);
+            dropped.forEach(PendingJavaScriptInvocation::cancelExecution);
+            dropped.clear();
+            getLogger().warn(
+                    "Canceled {} JavaScript invocations for elements inside "
+                            + "inactive elements since more than {} were "
+                            + "waiting for the elements to be sent",
+                    overLimit, MAX_DEFERRED_JS_INVOCATIONS);
+        }
 
-        pendingJsInvocations = new ArrayList<>();
+        pendingJsInvocations = deferred;
 
         return currentList;
     }
 
+    /**
+     * Checks whether the invocation refers to a node which has not been sent
+     * to the client because it is inside an inactive element, see
+     * {@link StateTree#setDeferInactiveSubtrees(boolean)}. Such invocations
+     * are kept until the node has been sent.
+     */
+    private boolean isWaitingForClientSide(
+            PendingJavaScriptInvocation invocation) {
+        if (!stateTree.isDeferInactiveSubtrees()) {
+            return false;
+        }
+        return isWaitingForClientSide(invocation.getOwner())
+                || invocation.getInvocation().getParameters().stream()
+                        .filter(Element.class::isInstance)
+                        .map(parameter -> ((Element) parameter).getNode())
+                        .anyMatch(UIInternals::isWaitingForClientSide);
+    }
+
+    private static boolean isWaitingForClientSide(StateNode node) {
+        return node.isAttached() && !node.isClientSideInitialized();
+    }
+
+    private static boolean isDeferInactiveSubtrees(VaadinSession session) {
+        VaadinService service = session.getService();
+        if (service == null) {
+            return false;
+        }
+        DeploymentConfiguration configuration = service
+                .getDeploymentConfiguration();
+        return configuration != null
+                && configuration.isDeferInactiveSubtrees();
+    }
+
     /**
      * Gets the pending javascript invocations added with
      * {@link #addJavaScriptInvocation(PendingJavaScriptInvocation)} after last
@@ -764,6 +944,10 @@ public class UIInternals implements Serializable {
      */
     @Deprecated
     public void setTheme(AbstractTheme theme) {
+        if (this.theme != theme) {
+            // HTML imports are translated using the theme
+            componentClassesWithDependencies.clear();
+        }
         this.theme = theme;
     }
 
@@ -847,6 +1031,9 @@ public class UIInternals implements Serializable {
      */
     public void addComponentDependencies(
             Class<? extends Component> componentClass) {
+        if (!componentClassesWithDependencies.add(componentClass)) {
+            return;
+        }
         Page page = ui.getPage();
         DependencyInfo dependencies = ComponentUtil
                 .getDependencies(session.getService(), componentClass);
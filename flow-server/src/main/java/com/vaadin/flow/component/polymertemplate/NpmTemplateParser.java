@@ -21,6 +21,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -62,6 +64,8 @@ public class NpmTemplateParser implements TemplateParser {
     private static final TemplateParser INSTANCE = new NpmTemplateParser();
 
     private final HashMap<String, String> cache = new HashMap<>();
+    // Parsed template elements by template source, only handed out as copies
+    private final Map<String, Element> parsedTemplates = new ConcurrentHashMap<>();
     private final ReentrantLock lock = new ReentrantLock();
     private JsonObject jsonStats;
 
@@ -123,7 +127,7 @@ public class NpmTemplateParser implements TemplateParser {
 
         if (chosenDep != null) {
 
-            Element templateElement = BundleParser.parseTemplateElement(
+            Element templateElement = getTemplateElement(
                     chosenDep.getFirst().getUrl(), chosenDep.getSecond());
             if (!JsoupUtils.getDomModule(templateElement, null).isPresent()) {
                 // Template needs to be wrapped in an element with id, to look
@@ -147,6 +151,17 @@ public class NpmTemplateParser implements TemplateParser {
                 JsModule.class.getSimpleName()));
     }
 
+    private Element getTemplateElement(String url, String source) {
+        // Parsing is done once per source; the callers modify the element
+        // (e.g. by moving it to a wrapper), so each of them gets a copy
+        Element parsed = parsedTemplates.get(source);
+        if (parsed == null) {
+            parsed = BundleParser.parseTemplateElement(url, source);
+            parsedTemplates.put(source, parsed);
+        }
+        return parsed.clone();
+    }
+
     private boolean dependencyHasTagName(Dependency dependency, String tag) {
         String url = dependency.getUrl();
         if (url.equalsIgnoreCase(tag + ".js")) {
@@ -178,14 +193,14 @@ public class NpmTemplateParser implements TemplateParser {
                     resetCache(content);
                 }
             }
+            if (!cache.containsKey(url) && jsonStats != null) {
+                cache.put(url,
+                        BundleParser.getSourceFromStatistics(url, jsonStats));
+            }
+            return cache.get(url);
         } finally {
             lock.unlock();
         }
-        if (!cache.containsKey(url) && jsonStats != null) {
-            cache.put(url,
-                    BundleParser.getSourceFromStatistics(url, jsonStats));
-        }
-        return cache.get(url);
     }
 
     /**
@@ -226,6 +241,7 @@ public class NpmTemplateParser implements TemplateParser {
 
     private void resetCache(String fileContents) {
         cache.clear();
+        parsedTemplates.clear();
         jsonStats = BundleParser.parseJsonStatistics(fileContents);
     }
 
@@ -16,6 +16,7 @@
 package com.vaadin.flow.dom;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -163,6 +164,29 @@ public interface ElementStateProvider extends Serializable {
      */
     void insertChild(StateNode node, int index, Element child);
 
+    /**
+     * Inserts the given children at the given position.
+     * <p>
+     * The children must not have a parent. The default implementation inserts
+     * the children one by one using
+     * {@link #insertChild(StateNode, int, Element)}.
+     *
+     * @param node
+     *            the node containing the data
+     * @param index
+     *            the position at which to insert the first child
+     * @param children
+     *            the child elements to insert, not {@code null}
+     */
+    default void insertChildren(StateNode node, int index,
+            List<Element> children) {
+        int insertIndex = index;
+        for (Element child : children) {
+            insertChild(node, insertIndex, child);
+            insertIndex++;
+        }
+    }
+
     /**
      * Removes the child at the given position.
      *
@@ -16,12 +16,19 @@
 package com.vaadin.flow.dom;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.nodefeature.ElementChildrenList;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
 import com.vaadin.flow.internal.nodefeature.VirtualChildrenList;
 
@@ -42,6 +49,8 @@ public abstract class Node<N extends Node<N>> implements Serializable {
 
     static final String THE_CHILDREN_ARRAY_CANNOT_BE_NULL = "The children array cannot be null";
 
+    static final String THE_CHILDREN_COLLECTION_CANNOT_BE_NULL = "The children collection cannot be null";
+
     private final ElementStateProvider stateProvider;
     private final StateNode node;
 
@@ -143,6 +152,27 @@ public abstract class Node<N extends Node<N>> implements Serializable {
         return getSelf();
     }
 
+    /**
+     * Adds the given children as the last children of this element.
+     * <p>
+     * Children without a parent are inserted in one go and reported to the
+     * client as a single change, which makes this method preferable to
+     * repeated {@link #appendChild(Element...)} calls when adding many
+     * children.
+     *
+     * @param children
+     *            the element(s) to add, not {@code null}
+     * @return this element
+     */
+    public N appendChild(Collection<Element> children) {
+        if (children == null) {
+            throw new IllegalArgumentException(
+                    THE_CHILDREN_COLLECTION_CANNOT_BE_NULL);
+        }
+
+        return insertChild(getChildCount(), children);
+    }
+
     /**
      * Appends the given children as the virtual children of the element.
      * <p>
@@ -298,6 +328,81 @@ public abstract class Node<N extends Node<N>> implements Serializable {
         return getSelf();
     }
 
+    /**
+     * Inserts the given child elements at the given position.
+     * <p>
+     * Children without a parent are inserted in one go and reported to the
+     * client as a single change. If any of the children already has a parent,
+     * the children are inserted one by one as in
+     * {@link #insertChild(int, Element...)}.
+     *
+     * @param index
+     *            the position at which to insert the new children
+     * @param children
+     *            the child elements to insert, not {@code null}
+     * @return this element
+     */
+    public N insertChild(int index, Collection<Element> children) {
+        if (children == null) {
+            throw new IllegalArgumentException(
+                    THE_CHILDREN_COLLECTION_CANNOT_BE_NULL);
+        }
+        if (index > getChildCount()) {
+            throw new IllegalArgumentException(String.format(
+                    CANNOT_X_WITH_INDEX_Y_WHEN_THERE_ARE_Z_CHILDREN, "insert",
+                    index, getChildCount()));
+        }
+
+        List<Element> toInsert = new ArrayList<>(children);
+        Set<StateNode> distinctNodes = Collections
+                .newSetFromMap(new IdentityHashMap<>(toInsert.size()));
+        boolean bulkInsert = true;
+        for (Element child : toInsert) {
+            if (child == null) {
+                throw new IllegalArgumentException(
+                        "Element to insert must not be null");
+            }
+            if (child.getParentNode() != null
+                    || !distinctNodes.add(child.getNode())) {
+                bulkInsert = false;
+            }
+        }
+
+        if (!bulkInsert) {
+            return insertChild(index, toInsert.toArray(new Element[0]));
+        }
+
+        if (!toInsert.isEmpty()) {
+            getStateProvider().insertChildren(node, index, toInsert);
+            toInsert.forEach(child -> ensureChildHasParent(child, true));
+        }
+
+        return getSelf();
+    }
+
+    /**
+     * Replaces all children of this element with the given child elements.
+     * <p>
+     * This is the same as calling {@link #removeAllChildren()} followed by
+     * {@link #appendChild(Collection)}, which means that children only
+     * present at the client-side are also removed and that the new children
+     * are reported to the client as a single change.
+     *
+     * @param children
+     *            the new child elements, not {@code null}
+     * @return this element
+     */
+    public N replaceChildren(Collection<Element> children) {
+        if (children == null) {
+            throw new IllegalArgumentException(
+                    THE_CHILDREN_COLLECTION_CANNOT_BE_NULL);
+        }
+
+        List<Element> newChildren = new ArrayList<>(children);
+        removeAllChildren();
+        return appendChild(newChildren);
+    }
+
     /**
      * Returns the index of the specified {@code child} in the children list, or
      * -1 if this list does not contain the {@code child}.
@@ -314,13 +419,8 @@ public abstract class Node<N extends Node<N>> implements Serializable {
         if (!equals(child.getParentNode())) {
             return -1;
         }
-        for (int i = 0; i < getChildCount(); i++) {
-            Element element = getChild(i);
-            if (element.equals(child)) {
-                return i;
-            }
-        }
-        return -1;
+        return getNode().getFeature(ElementChildrenList.class)
+                .indexOf(child.getNode());
     }
 
     /**
@@ -378,6 +478,22 @@ public abstract class Node<N extends Node<N>> implements Serializable {
         return getSelf();
     }
 
+    /**
+     * Removes the given child elements.
+     *
+     * @param children
+     *            the child elements to remove, not {@code null}
+     * @return this element
+     */
+    public N removeChild(Collection<Element> children) {
+        if (children == null) {
+            throw new IllegalArgumentException(
+                    THE_CHILDREN_COLLECTION_CANNOT_BE_NULL);
+        }
+
+        return removeChild(children.toArray(new Element[0]));
+    }
+
     /**
      * Removes the child at the given index.
      *
@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.dom.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import com.vaadin.flow.dom.ChildElementConsumer;
@@ -102,6 +104,19 @@ public abstract class AbstractNodeStateProvider
         getChildrenFeature(node).add(index, child.getNode());
     }
 
+    @Override
+    public void insertChildren(StateNode node, int index,
+            List<Element> children) {
+        assert index >= 0;
+        assert index <= getChildCount(node); // == if adding as last
+
+        List<StateNode> nodes = new ArrayList<>(children.size());
+        for (Element child : children) {
+            nodes.add(child.getNode());
+        }
+        getChildrenFeature(node).addAll(index, nodes);
+    }
+
     @Override
     public void removeChild(StateNode node, int index) {
         assert index >= 0;
@@ -100,6 +100,85 @@ public interface DeploymentConfiguration extends Serializable {
      */
     int getHeartbeatInterval();
 
+    /**
+     * Returns the number of most recently sent messages kept per UI for
+     * replaying to a client which reports that it did not receive them. A
+     * non-positive number disables replaying, which is the default.
+     *
+     * @return the number of messages to keep for replaying
+     */
+    default int getMessageReplayBufferSize() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_MESSAGE_REPLAY_BUFFER_SIZE, 0,
+                Integer::parseInt);
+    }
+
+    /**
+     * Returns whether the contents of an inactive element, e.g. an invisible
+     * tab, are sent to the client only once the element becomes active.
+     * Disabled by default.
+     *
+     * @return <code>true</code> if the contents of inactive elements are
+     *         deferred, <code>false</code> otherwise
+     * @see com.vaadin.flow.internal.StateTree#setDeferInactiveSubtrees(boolean)
+     */
+    default boolean isDeferInactiveSubtrees() {
+        return getBooleanProperty(
+                Constants.SERVLET_PARAMETER_DEFER_INACTIVE_SUBTREES, false);
+    }
+
+    /**
+     * Returns whether static resources are cached in memory in production
+     * mode. Enabled by default.
+     *
+     * @return <code>true</code> if static resources are cached,
+     *         <code>false</code> otherwise
+     */
+    default boolean isStaticResourceCacheEnabled() {
+        return getBooleanProperty(
+                Constants.SERVLET_PARAMETER_STATIC_RESOURCE_CACHE, true);
+    }
+
+    /**
+     * Returns the maximum number of static resources kept in the static
+     * resource cache. The default is 1000.
+     *
+     * @return the maximum number of cached resources
+     * @see #isStaticResourceCacheEnabled()
+     */
+    default int getStaticResourceCacheMaxEntries() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_MAX_ENTRIES,
+                1000, Integer::parseInt);
+    }
+
+    /**
+     * Returns the maximum total size in bytes of the resource contents kept
+     * in the static resource cache. The default is 64 MB.
+     *
+     * @return the maximum total size of the cached contents in bytes
+     * @see #isStaticResourceCacheEnabled()
+     */
+    default long getStaticResourceCacheMaxBytes() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_MAX_BYTES,
+                64L * 1024 * 1024, Long::parseLong);
+    }
+
+    /**
+     * Returns the size in bytes of the largest static resource whose contents
+     * are kept in the static resource cache. Only the location of larger
+     * resources is cached. The default is 4 MB.
+     *
+     * @return the maximum size of a resource kept in memory in bytes
+     * @see #isStaticResourceCacheEnabled()
+     */
+    default int getStaticResourceCacheMaxResourceBytes() {
+        return getApplicationOrSystemProperty(
+                Constants.SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_MAX_RESOURCE_BYTES,
+                4 * 1024 * 1024, Integer::parseInt);
+    }
+
     /**
      * Returns the number of seconds that a WebComponent will wait for a
      * reconnect before removing the server-side component from memory.
@@ -16,7 +16,6 @@
 package com.vaadin.flow.internal;
 
 import java.io.Serializable;
-import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.dom.Element;
@@ -115,8 +114,12 @@ public class JsonCodec {
     }
 
     private static JsonArray wrapComplexValue(int typeId, JsonValue... values) {
-        return Stream.concat(Stream.of(Json.create(typeId)), Stream.of(values))
-                .collect(JsonUtils.asArray());
+        JsonArray array = Json.createArray();
+        array.set(0, typeId);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i + 1, values[i]);
+        }
+        return array;
     }
 
     /**
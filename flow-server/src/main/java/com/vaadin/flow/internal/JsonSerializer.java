@@ -15,7 +15,7 @@
  */
 package com.vaadin.flow.internal;
 
-import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Array;
@@ -48,6 +48,54 @@ import elemental.json.JsonValue;
  */
 public final class JsonSerializer {
 
+    private static final ReflectionCache<Object, BeanProperties> beanPropertiesCache = new ReflectionCache<>(
+            BeanProperties::new);
+
+    /**
+     * Bean property accessors of a class, introspected once so that
+     * serializing many beans of the same type does not repeat the
+     * introspection and the descriptor array copies for every instance.
+     */
+    private static class BeanProperties {
+        private final List<String> readerNames = new ArrayList<>();
+        private final List<Method> readers = new ArrayList<>();
+        private final Map<String, BeanWriter> writers = new HashMap<>();
+
+        private BeanProperties(Class<?> type) {
+            PropertyDescriptor[] descriptors;
+            try {
+                descriptors = Introspector.getBeanInfo(type)
+                        .getPropertyDescriptors();
+            } catch (IntrospectionException e) {
+                throw new IllegalArgumentException(
+                        "Could not introspect bean of type " + type, e);
+            }
+            for (PropertyDescriptor pd : descriptors) {
+                Method reader = pd.getReadMethod();
+                if (reader != null && !"class".equals(pd.getName())) {
+                    readerNames.add(pd.getName());
+                    readers.add(reader);
+                }
+                Method writer = pd.getWriteMethod();
+                if (writer != null) {
+                    writers.put(pd.getName(), new BeanWriter(writer));
+                }
+            }
+        }
+    }
+
+    private static class BeanWriter {
+        private final Method method;
+        private final Class<?> parameterType;
+        private final Type genericParameterType;
+
+        private BeanWriter(Method method) {
+            this.method = method;
+            parameterType = method.getParameterTypes()[0];
+            genericParameterType = method.getGenericParameterTypes()[0];
+        }
+    }
+
     private JsonSerializer() {
     }
 
@@ -82,15 +130,11 @@ public final class JsonSerializer {
 
         try {
             JsonObject json = Json.createObject();
-            BeanInfo info = Introspector.getBeanInfo(bean.getClass());
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                if ("class".equals(pd.getName())) {
-                    continue;
-                }
-                Method reader = pd.getReadMethod();
-                if (reader != null) {
-                    json.put(pd.getName(), toJson(reader.invoke(bean)));
-                }
+            BeanProperties properties = beanPropertiesCache
+                    .get(bean.getClass());
+            for (int i = 0; i < properties.readers.size(); i++) {
+                json.put(properties.readerNames.get(i),
+                        toJson(properties.readers.get(i).invoke(bean)));
             }
 
             return json;
@@ -118,8 +162,10 @@ public final class JsonSerializer {
             return array;
         }
 
-        beans.stream().map(JsonSerializer::toJson)
-                .forEachOrdered(json -> array.set(array.length(), json));
+        int index = 0;
+        for (Object bean : beans) {
+            array.set(index++, toJson(bean));
+        }
         return array;
     }
 
@@ -212,26 +258,15 @@ public final class JsonSerializer {
                 return instance;
             }
 
-            BeanInfo info = Introspector.getBeanInfo(type);
-            Map<String, Method> writers = new HashMap<>();
-
-            for (PropertyDescriptor pd : info.getPropertyDescriptors()) {
-                Method writer = pd.getWriteMethod();
-                if (writer != null) {
-                    writers.put(pd.getName(), writer);
-                }
-            }
+            BeanProperties properties = beanPropertiesCache.get(type);
             for (String key : keys) {
                 JsonValue jsonValue = jsonObject.get(key);
 
-                Method method = writers.get(key);
-                if (method != null) {
-                    Class<?> parameterType = method.getParameterTypes()[0];
-                    Type genericParameterType = method
-                            .getGenericParameterTypes()[0];
-                    Object value = toObject(parameterType, genericParameterType,
-                            jsonValue);
-                    method.invoke(instance, value);
+                BeanWriter writer = properties.writers.get(key);
+                if (writer != null) {
+                    Object value = toObject(writer.parameterType,
+                            writer.genericParameterType, jsonValue);
+                    writer.method.invoke(instance, value);
                 }
             }
 
@@ -252,7 +252,11 @@ public final class JsonUtils {
      * @return the created array
      */
     public static JsonArray createArray(JsonValue... values) {
-        return Stream.of(values).collect(asArray());
+        JsonArray array = Json.createArray();
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
     }
 
     /**
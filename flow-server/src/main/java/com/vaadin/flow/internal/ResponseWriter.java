@@ -264,7 +264,17 @@ public class ResponseWriter implements Serializable {
         return acceptsEncoding(request, "br");
     }
 
-    private static boolean acceptsEncoding(HttpServletRequest request,
+    /**
+     * Returns whether the browser accepts responses with the given content
+     * encoding according to the request's Accept-Encoding header.
+     *
+     * @param request
+     *            the request for the resource
+     * @param encodingName
+     *            the content encoding, e.g. <code>gzip</code>
+     * @return true if the encoding is accepted, false otherwise
+     */
+    public static boolean acceptsEncoding(HttpServletRequest request,
             String encodingName) {
         String accept = request.getHeader("Accept-Encoding");
         if (accept == null) {
@@ -17,13 +17,14 @@
 package com.vaadin.flow.internal;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -340,7 +341,18 @@ public class StateNode implements Serializable {
     }
 
     private void forEachFeature(Consumer<NodeFeature> action) {
-        getInitializedFeatures().forEach(action::accept);
+        // Plain iteration since this is run for every node on every visit
+        if (features == null) {
+            return;
+        } else if (features instanceof NodeFeature) {
+            action.accept((NodeFeature) features);
+        } else {
+            for (NodeFeature feature : (NodeFeature[]) features) {
+                if (feature != null) {
+                    action.accept(feature);
+                }
+            }
+        }
     }
 
     private Stream<NodeFeature> getInitializedFeatures() {
@@ -545,12 +557,13 @@ public class StateNode implements Serializable {
      * Gets whether the client side has been initialized for this node.
      * <p>
      * This is used internally by the state tree when processing
-     * beforeClientResponse callbacks.
+     * beforeClientResponse callbacks and by the UI when sending JavaScript
+     * invocations.
      *
      * @return <code>true</code> if the node has a initialized client side and
      *         <code>false</code> if the client side is not initialized yet
      */
-    boolean isClientSideInitialized() {
+    public boolean isClientSideInitialized() {
         return wasAttached;
     }
 
@@ -570,6 +583,10 @@ public class StateNode implements Serializable {
      *            a consumer accepting node changes
      */
     public void collectChanges(Consumer<NodeChange> collector) {
+        if (isDeferredByInactiveParent()) {
+            // Collected when the parent becomes active, see setInactive
+            return;
+        }
         boolean isAttached = isAttached();
         if (isAttached != wasAttached) {
             if (isAttached) {
@@ -599,16 +616,36 @@ public class StateNode implements Serializable {
                 doCollectChanges(collector, getDisalowFeatures());
             }
         } else {
-            doCollectChanges(collector, getInitializedFeatures());
+            if (changes != null) {
+                forEachFeature(
+                        feature -> collectFeatureChanges(collector, feature));
+            }
+            afterCollectChanges();
         }
     }
 
+    private boolean isDeferredByInactiveParent() {
+        StateNode parent = getParent();
+        return parent != null && getOwner() instanceof StateTree
+                && ((StateTree) getOwner()).isDeferInactiveSubtrees()
+                && parent.isInactive();
+    }
+
     private void doCollectChanges(Consumer<NodeChange> collector,
             Stream<NodeFeature> features) {
-        features.filter(this::hasChangeTracker).forEach(feature -> {
+        features.forEach(feature -> collectFeatureChanges(collector, feature));
+        afterCollectChanges();
+    }
+
+    private void collectFeatureChanges(Consumer<NodeChange> collector,
+            NodeFeature feature) {
+        if (hasChangeTracker(feature)) {
             feature.collectChanges(collector);
             changes.remove(feature.getClass());
-        });
+        }
+    }
+
+    private void afterCollectChanges() {
         isInitialChanges = false;
         if (changes != null && changes.isEmpty()) {
             changes = null;
@@ -636,12 +673,12 @@ public class StateNode implements Serializable {
      *            visitor to apply
      */
     public void visitNodeTree(Consumer<StateNode> visitor) {
-        LinkedList<StateNode> stack = new LinkedList<>();
-        stack.add(this);
+        Deque<StateNode> stack = new ArrayDeque<>();
+        stack.push(this);
         while (!stack.isEmpty()) {
-            StateNode node = stack.removeFirst();
+            StateNode node = stack.pop();
             visitor.accept(node);
-            node.forEachChild(child -> stack.add(0, child));
+            node.forEachChild(stack::push);
         }
     }
 
@@ -656,7 +693,7 @@ public class StateNode implements Serializable {
      */
     // package protected for testing
     void visitNodeTreeBottomUp(Consumer<StateNode> visitor) {
-        LinkedList<StateNode> stack = new LinkedList<>();
+        Deque<StateNode> stack = new ArrayDeque<>();
         stack.add(this);
         // not done inside loop to please Sonarcube
         forEachChild(stack::addFirst);
@@ -881,7 +918,7 @@ public class StateNode implements Serializable {
      * @see NodeFeature#allowsChanges()
      */
     public void updateActiveState() {
-        setInactive(getDisalowFeatures().count() != 0);
+        setInactive(hasDisallowFeatures());
     }
 
     /**
@@ -898,6 +935,20 @@ public class StateNode implements Serializable {
         return getParent().isInactive();
     }
 
+    private boolean hasDisallowFeatures() {
+        if (features == null) {
+            return false;
+        } else if (features instanceof NodeFeature) {
+            return !((NodeFeature) features).allowsChanges();
+        }
+        for (NodeFeature feature : (NodeFeature[]) features) {
+            if (feature != null && !feature.allowsChanges()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Stream<NodeFeature> getDisalowFeatures() {
         return getInitializedFeatures()
                 .filter(feature -> !feature.allowsChanges());
@@ -906,9 +957,11 @@ public class StateNode implements Serializable {
     private void setInactive(boolean inactive) {
         if (isInactiveSelf != inactive) {
             isInactiveSelf = inactive;
+            boolean deferred = getOwner() instanceof StateTree
+                    && ((StateTree) getOwner()).isDeferInactiveSubtrees();
 
             visitNodeTree(child -> {
-                if (!equals(child) && !child.isInactiveSelf) {
+                if (!equals(child) && (deferred || !child.isInactiveSelf)) {
                     /*
                      * We are here if: the child node itself is not inactive but
                      * it has some ascendant which is inactive.
@@ -926,6 +979,10 @@ public class StateNode implements Serializable {
                      * ascendant is inactive) we mark as dirty again to be able
                      * to collect its changes later on when its ascendant
                      * becomes active.
+                     *
+                     * When inactive subtrees are deferred, nodes which are
+                     * inactive themselves have not been sent either, so all
+                     * descendants need to be collected.
                      */
                     child.markAsDirty();
                 }
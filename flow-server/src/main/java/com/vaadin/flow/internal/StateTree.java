@@ -150,6 +150,8 @@ public class StateTree implements NodeOwner {
     // initialization is done.
     private boolean isRootAttached = true;
 
+    private boolean deferInactiveSubtrees;
+
     /**
      * Creates a new state tree with a set of features defined for the root
      * node.
@@ -176,6 +178,40 @@ public class StateTree implements NodeOwner {
         return rootNode;
     }
 
+    /**
+     * Sets whether the descendants of an inactive node are sent to the client
+     * only once the node becomes active.
+     * <p>
+     * When enabled, nothing is collected for a node with an inactive
+     * ascendant, not even its attach change. Changes keep accumulating on the
+     * server and a node that has never been sent is encoded from its current
+     * state once it gets shown, so content that is never shown costs neither
+     * encoding on the server nor memory on the client.
+     * <p>
+     * The UI enables this when it is attached to a session if
+     * {@link com.vaadin.flow.function.DeploymentConfiguration#isDeferInactiveSubtrees()}
+     * is set.
+     *
+     * @param deferInactiveSubtrees
+     *            <code>true</code> to defer the descendants of inactive
+     *            nodes, <code>false</code> to send them right away
+     */
+    public void setDeferInactiveSubtrees(boolean deferInactiveSubtrees) {
+        this.deferInactiveSubtrees = deferInactiveSubtrees;
+    }
+
+    /**
+     * Checks whether the descendants of an inactive node are sent to the
+     * client only once the node becomes active.
+     *
+     * @return <code>true</code> if the descendants of inactive nodes are
+     *         deferred, <code>false</code> otherwise
+     * @see #setDeferInactiveSubtrees(boolean)
+     */
+    public boolean isDeferInactiveSubtrees() {
+        return deferInactiveSubtrees;
+    }
+
     @Override
     public int register(StateNode node) {
         assert node.getOwner() == this;
@@ -18,11 +18,9 @@ package com.vaadin.flow.internal.change;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Function;
 
 import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.JsonCodec;
-import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.nodefeature.NodeList;
 import com.vaadin.flow.shared.JsonConstants;
@@ -30,7 +28,6 @@ import com.vaadin.flow.shared.JsonConstants;
 import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
-import elemental.json.JsonValue;
 
 /**
  * Change describing an add operation in a {@link NodeList list} node feature.
@@ -111,20 +108,21 @@ public class ListAddChange<T extends Serializable>
 
         json.put(JsonConstants.CHANGE_SPLICE_INDEX, getIndex());
 
-        Function<Object, JsonValue> mapper;
-        String addKey;
+        // Plain loops since large lists of children are encoded here
+        JsonArray newItemsJson = Json.createArray();
+        int size = newItems.size();
         if (nodeValues) {
-            addKey = JsonConstants.CHANGE_SPLICE_ADD_NODES;
-            mapper = item -> Json.create(((StateNode) item).getId());
+            for (int i = 0; i < size; i++) {
+                newItemsJson.set(i, ((StateNode) newItems.get(i)).getId());
+            }
+            json.put(JsonConstants.CHANGE_SPLICE_ADD_NODES, newItemsJson);
         } else {
-            addKey = JsonConstants.CHANGE_SPLICE_ADD;
-            mapper = item -> JsonCodec.encodeWithConstantPool(item,
-                    constantPool);
+            for (int i = 0; i < size; i++) {
+                newItemsJson.set(i, JsonCodec.encodeWithConstantPool(
+                        newItems.get(i), constantPool));
+            }
+            json.put(JsonConstants.CHANGE_SPLICE_ADD, newItemsJson);
         }
-
-        JsonArray newItemsJson = newItems.stream().map(mapper)
-                .collect(JsonUtils.asArray());
-        json.put(addKey, newItemsJson);
     }
 
 }
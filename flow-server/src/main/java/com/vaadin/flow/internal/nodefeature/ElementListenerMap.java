@@ -62,6 +62,12 @@ public class ElementListenerMap extends NodeMap {
             = EnumSet.of(DebouncePhase.LEADING);
 
     // Server-side only data
+    /**
+     * Number of events a rate limited listener accepts in a burst, since
+     * events queued on the client may arrive in the same message.
+     */
+    private static final int RATE_LIMIT_BURST = 5;
+
     private Map<String, List<DomEventListenerWrapper>> listeners;
 
     private static class ExpressionSettings implements Serializable {
@@ -113,6 +119,11 @@ public class ElementListenerMap extends NodeMap {
         private EnumSet<DebouncePhase> debouncePhases = NO_TIMEOUT_PHASES;
         private List<SerializableRunnable> unregisterHandlers;
 
+        // System.nanoTime() values are only comparable within one JVM, so
+        // the bucket starts over after deserialization
+        private transient double rateLimitPermits;
+        private transient long rateLimitUpdated;
+
         private DomEventListenerWrapper(ElementListenerMap listenerMap,
                 String type, DomEventListener origin) {
             this.listenerMap = listenerMap;
@@ -243,6 +254,34 @@ public class ElementListenerMap extends NodeMap {
             return debouncePhases.contains(phase);
         }
 
+        /**
+         * Takes a permit for an event if the events received for this
+         * listener stay within the rate allowed by its debounce settings. A
+         * client respecting the settings sends at most one event per phase
+         * during each timeout period.
+         */
+        private boolean tryAcquirePermit(long nanoTime) {
+            if (debounceTimeout == 0) {
+                return true;
+            }
+            if (rateLimitUpdated == 0) {
+                rateLimitPermits = RATE_LIMIT_BURST;
+            } else {
+                double permitsPerNano = debouncePhases.size()
+                        / (debounceTimeout * 1_000_000.0);
+                rateLimitPermits = Math.min(RATE_LIMIT_BURST,
+                        rateLimitPermits
+                                + Math.max(0, nanoTime - rateLimitUpdated)
+                                        * permitsPerNano);
+            }
+            rateLimitUpdated = nanoTime;
+            if (rateLimitPermits < 1) {
+                return false;
+            }
+            rateLimitPermits--;
+            return true;
+        }
+
         @Override
         public DomListenerRegistration onUnregister(
                 SerializableRunnable unregisterHandler) {
@@ -411,6 +450,49 @@ public class ElementListenerMap extends NodeMap {
         }
     }
 
+    /**
+     * Checks whether an event received from the client should be processed
+     * given the debounce and throttle settings of the listeners it would be
+     * delivered to. Events are only dropped if the client sends them faster
+     * than all those listeners have asked for, which a well-behaving client
+     * never does.
+     * <p>
+     * Every call is counted against the rate limits of the listeners, so this
+     * should be called once for each received event.
+     *
+     * @param eventType
+     *            the event type, not <code>null</code>
+     * @param eventData
+     *            the event data sent by the client, or <code>null</code> if
+     *            there is no data
+     * @return <code>true</code> if the event should be processed,
+     *         <code>false</code> if it should be dropped
+     */
+    public boolean allowEvent(String eventType, JsonObject eventData) {
+        DebouncePhase phase = DebouncePhase.LEADING;
+        if (eventData != null
+                && eventData.hasKey(JsonConstants.EVENT_DATA_PHASE)) {
+            try {
+                phase = DebouncePhase.forIdentifier(
+                        eventData.getString(JsonConstants.EVENT_DATA_PHASE));
+            } catch (IllegalArgumentException e) {
+                // Let the regular event handling report the invalid phase
+                return true;
+            }
+        }
+
+        long now = System.nanoTime();
+        boolean matched = false;
+        boolean allowed = false;
+        for (DomEventListenerWrapper wrapper : getWrappers(eventType)) {
+            if (wrapper.matchesPhase(phase)) {
+                matched = true;
+                allowed |= wrapper.tryAcquirePermit(now);
+            }
+        }
+        return allowed || !matched;
+    }
+
     /**
      * Fires an event to all listeners registered for the given type.
      *
@@ -71,6 +71,7 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         @Override
         public void remove() {
             arrayIterator.remove();
+            identityIndex = null;
             addChange(new ListRemoveChange<>(NodeList.this, index, current));
             index--;
         }
@@ -138,8 +139,20 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         }
     }
 
+    /**
+     * Lists of node values with at least this many items use an identity index
+     * for {@link #indexOf(Serializable)} instead of a linear scan.
+     */
+    private static final int IDENTITY_INDEX_THRESHOLD = 16;
+
     private List<T> values;
 
+    /*
+     * Lazily built position index for node values. It is kept up to date for
+     * appends and discarded on any other structural change.
+     */
+    private transient Map<T, Integer> identityIndex;
+
     private boolean isRemoveAllCalled;
 
     private boolean isPopulated;
@@ -207,6 +220,20 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
      *            a collection of items to add, not null
      */
     protected void addAll(Collection<? extends T> items) {
+        addAll(values == null ? 0 : values.size(), items);
+    }
+
+    /**
+     * Inserts all provided items at the given index of the list.
+     * <p>
+     * All the items are reported to the client as a single change.
+     *
+     * @param index
+     *            index to insert at
+     * @param items
+     *            a collection of items to add, not null
+     */
+    protected void addAll(int index, Collection<? extends T> items) {
         assert items != null;
         if (items.isEmpty()) {
             return;
@@ -216,10 +243,18 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
         ensureValues();
 
-        int startIndex = values.size();
-        values.addAll(itemsList);
+        boolean append = index == values.size();
+        values.addAll(index, itemsList);
 
-        addChange(new ListAddChange<>(this, isNodeValues(), startIndex,
+        if (append && identityIndex != null) {
+            for (int i = 0; i < itemsList.size(); i++) {
+                identityIndex.put(itemsList.get(i), index + i);
+            }
+        } else {
+            identityIndex = null;
+        }
+
+        addChange(new ListAddChange<>(this, isNodeValues(), index,
                 itemsList));
     }
 
@@ -235,6 +270,14 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         ensureValues();
         values.add(index, item);
 
+        if (identityIndex != null) {
+            if (index == values.size() - 1) {
+                identityIndex.put(item, index);
+            } else {
+                identityIndex = null;
+            }
+        }
+
         addChange(new ListAddChange<>(this, isNodeValues(), index,
                 Collections.singletonList(item)));
     }
@@ -253,6 +296,14 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
 
         T removed = values.remove(index);
 
+        if (identityIndex != null) {
+            if (index == values.size()) {
+                identityIndex.remove(removed);
+            } else {
+                identityIndex = null;
+            }
+        }
+
         addChange(new ListRemoveChange<>(this, index, removed));
 
         if (values.isEmpty()) {
@@ -398,6 +449,7 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
             values.clear();
             values = null;
         }
+        identityIndex = null;
 
         isRemoveAllCalled = true;
         addChange(new ListClearChange<>(this));
@@ -415,7 +467,17 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
         if (values == null) {
             return -1;
         }
-        return values.indexOf(value);
+        if (!isNodeValues() || values.size() < IDENTITY_INDEX_THRESHOLD) {
+            return values.indexOf(value);
+        }
+        if (identityIndex == null) {
+            identityIndex = new IdentityHashMap<>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                identityIndex.put(values.get(i), i);
+            }
+        }
+        Integer index = identityIndex.get(value);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -59,6 +59,8 @@ public abstract class NodeMap extends NodeFeature {
 
         Stream<Serializable> streamValues();
 
+        void forEachValue(Consumer<Serializable> action);
+
         // Named set instead of put to avoid incompatibility with HashMap where
         // put returns the previous value
         void set(String key, Serializable value);
@@ -105,6 +107,11 @@ public abstract class NodeMap extends NodeFeature {
             return Stream.of(value);
         }
 
+        @Override
+        public void forEachValue(Consumer<Serializable> action) {
+            action.accept(value);
+        }
+
         @Override
         public void set(String key, Serializable value) {
             assert key.equals(this.key);
@@ -142,6 +149,11 @@ public abstract class NodeMap extends NodeFeature {
         public Stream<Serializable> streamValues() {
             return super.values().stream();
         }
+
+        @Override
+        public void forEachValue(Consumer<Serializable> action) {
+            super.values().forEach(action);
+        }
     }
 
     private Values values;
@@ -459,8 +471,11 @@ public abstract class NodeMap extends NodeFeature {
         }
         assert !values.isEmpty();
 
-        values.streamValues().filter(v -> v instanceof StateNode)
-                .forEach(v -> action.accept((StateNode) v));
+        values.forEachValue(value -> {
+            if (value instanceof StateNode) {
+                action.accept((StateNode) value);
+            }
+        });
     }
 
     /**
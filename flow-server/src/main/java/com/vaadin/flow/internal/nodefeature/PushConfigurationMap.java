@@ -58,6 +58,8 @@ public class PushConfigurationMap extends NodeMap implements PushConfiguration {
     public static final String ALWAYS_USE_XHR_TO_SERVER = "alwaysXhrToServer";
     public static final String PUSH_URL_KEY = "pushUrl";
     public static final String PARAMETERS_KEY = "parameters";
+    public static final String MAX_IN_FLIGHT_MESSAGES_KEY = "maxInFlightMessages";
+    public static final int MAX_IN_FLIGHT_MESSAGES_DEFAULT = 1;
 
     /**
      * Creates a new map for the given node.
@@ -145,6 +147,17 @@ public class PushConfigurationMap extends NodeMap implements PushConfiguration {
         return getOrDefault(PUSH_URL_KEY, null);
     }
 
+    @Override
+    public void setMaxInFlightMessages(int maxInFlightMessages) {
+        put(MAX_IN_FLIGHT_MESSAGES_KEY, maxInFlightMessages);
+    }
+
+    @Override
+    public int getMaxInFlightMessages() {
+        return getOrDefault(MAX_IN_FLIGHT_MESSAGES_KEY,
+                MAX_IN_FLIGHT_MESSAGES_DEFAULT);
+    }
+
     @Override
     public String getParameter(String key) {
         return (String) getParameters().get(key);
@@ -54,8 +54,8 @@ public abstract class StateNodeNodeList extends NodeList<StateNode> {
     }
 
     @Override
-    protected void addAll(Collection<? extends StateNode> items) {
-        super.addAll(items);
+    protected void addAll(int index, Collection<? extends StateNode> items) {
+        super.addAll(index, items);
         items.forEach(this::attachPotentialChild);
     }
 
@@ -17,6 +17,7 @@ package com.vaadin.flow.router;
 
 import com.googlecode.gentyref.GenericTypeReflector;
 import com.vaadin.flow.internal.ReflectTools;
+import com.vaadin.flow.internal.ReflectionCache;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -43,6 +44,27 @@ public final class ParameterDeserializer {
             .unmodifiableSet(new HashSet<>(Arrays.asList(Long.class,
                     Integer.class, String.class, Boolean.class)));
 
+    private static final ReflectionCache<HasUrlParameter<?>, ParameterMetadata> parameterMetadataCache = new ReflectionCache<>(
+            ParameterMetadata::new);
+
+    /**
+     * Reflection results needed for verifying the URL parameters of a
+     * navigation target.
+     */
+    private static class ParameterMetadata {
+        private final Class<?> parameterType;
+        private final boolean wildcard;
+        private final boolean optional;
+
+        private ParameterMetadata(Class<?> navigationTarget) {
+            parameterType = getClassType(navigationTarget);
+            wildcard = isAnnotatedParameter(navigationTarget,
+                    WildcardParameter.class);
+            optional = isAnnotatedParameter(navigationTarget,
+                    OptionalParameter.class);
+        }
+    }
+
     private ParameterDeserializer() {
     }
 
@@ -139,14 +161,14 @@ public final class ParameterDeserializer {
                     navigationTarget.getName()));
         }
 
-        Class<?> parameterType = getClassType(navigationTarget);
+        @SuppressWarnings("unchecked")
+        ParameterMetadata metadata = parameterMetadataCache
+                .get((Class<? extends HasUrlParameter<?>>) navigationTarget);
 
-        if (supportedTypes.contains(parameterType)) {
-            if (isAnnotatedParameter(navigationTarget,
-                    WildcardParameter.class)) {
+        if (supportedTypes.contains(metadata.parameterType)) {
+            if (metadata.wildcard) {
                 return true;
-            } else if (isAnnotatedParameter(navigationTarget,
-                    OptionalParameter.class)) {
+            } else if (metadata.optional) {
                 return urlParameters.size() <= 1;
             }
             return urlParameters.size() == 1;
@@ -36,6 +36,7 @@ import com.vaadin.flow.di.Instantiator;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.internal.Pair;
 import com.vaadin.flow.internal.ReflectTools;
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.router.AfterNavigationEvent;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
@@ -75,6 +76,14 @@ public abstract class AbstractNavigationStateRenderer
     private static List<Integer> statusCodes = ReflectTools
             .getConstantIntValues(HttpServletResponse.class);
 
+    // Annotation lookups repeated on every navigation, cached per class
+    private static final ReflectionCache<Component, String> pageTitleCache = new ReflectionCache<>(
+            type -> Optional.ofNullable(type.getAnnotation(PageTitle.class))
+                    .map(PageTitle::value).orElse(""));
+
+    private static final ReflectionCache<Object, Boolean> preserveOnRefreshCache = new ReflectionCache<>(
+            type -> type.isAnnotationPresent(PreserveOnRefresh.class));
+
     private final NavigationState navigationState;
 
     private Postpone postponed = null;
@@ -321,20 +330,19 @@ public abstract class AbstractNavigationStateRenderer
     }
     
     // The last element in the returned list is always a Component class
-    private List<Class<? extends HasElement>> createTypesChain(NavigationEvent event) {
-        final Class<? extends Component> routeTargetType = navigationState
-                .getNavigationTarget();
-
-        List<Class<? extends RouterLayout>> routeLayoutTypes = new ArrayList<>(
-                getRouterLayoutTypes(routeTargetType,
-                        event.getUI().getRouter()));
-        Collections.reverse(routeLayoutTypes);
-        
-        final ArrayList<Class<? extends HasElement>> chain = new ArrayList<>();
-        for (Class<? extends RouterLayout> parentType : routeLayoutTypes) {
-            chain.add(parentType);
+    // Reuses the layout types already resolved for the before enter event
+    // instead of querying the route registry a second time.
+    private List<Class<? extends HasElement>> createTypesChain(
+            BeforeEnterEvent beforeNavigation) {
+        List<Class<? extends RouterLayout>> routeLayoutTypes = beforeNavigation
+                .getLayouts();
+
+        final ArrayList<Class<? extends HasElement>> chain = new ArrayList<>(
+                routeLayoutTypes.size() + 1);
+        for (int i = routeLayoutTypes.size() - 1; i >= 0; i--) {
+            chain.add(routeLayoutTypes.get(i));
         }
-        chain.add(routeTargetType);
+        chain.add(navigationState.getNavigationTarget());
         return chain;
     }
 
@@ -447,7 +455,7 @@ public abstract class AbstractNavigationStateRenderer
 
         // Create the chain components if missing.
         List<Class<? extends HasElement>> typesChain = createTypesChain(
-                event);
+                beforeNavigation);
 
         try {
             for (Class<? extends HasElement> elementType : typesChain) {
@@ -813,25 +821,23 @@ public abstract class AbstractNavigationStateRenderer
         if (routeTarget instanceof HasDynamicTitle) {
             title = ((HasDynamicTitle) routeTarget).getPageTitle();
         } else {
-            title = lookForTitleInTarget(routeTarget).map(PageTitle::value)
-                    .orElse("");
+            title = pageTitleCache.get(routeTarget.getClass());
         }
         navigationEvent.getUI().getPage().setTitle(title);
     }
 
-    private static Optional<PageTitle> lookForTitleInTarget(
-            Component routeTarget) {
-        return Optional.ofNullable(
-                routeTarget.getClass().getAnnotation(PageTitle.class));
-    }
-
     private static boolean isPreserveOnRefreshTarget(
             Class<? extends Component> routeTargetType,
             List<Class<? extends RouterLayout>> routeLayoutTypes) {
-        return routeTargetType.isAnnotationPresent(PreserveOnRefresh.class)
-                || routeLayoutTypes.stream().anyMatch(layoutType ->
-                layoutType.isAnnotationPresent(PreserveOnRefresh.class)
-        );
+        if (preserveOnRefreshCache.get(routeTargetType)) {
+            return true;
+        }
+        for (Class<? extends RouterLayout> layoutType : routeLayoutTypes) {
+            if (preserveOnRefreshCache.get(layoutType)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void moveElementsToNewUI(UI prevUi, UI newUi) {
@@ -16,12 +16,9 @@
 package com.vaadin.flow.router.internal;
 
 import java.io.Serializable;
-import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
-import java.util.Optional;
 
 import org.slf4j.LoggerFactory;
 
@@ -64,7 +61,7 @@ public class DefaultRouteResolver implements RouteResolver {
 
             if (HasUrlParameter.class.isAssignableFrom(navigationTarget)) {
                 List<String> pathParameters = getPathParameters(
-                        request.getLocation().getPath(), path.path);
+                        path.segments);
                 if (!ParameterDeserializer.verifyParameters(navigationTarget,
                         pathParameters)) {
                     return null;
@@ -108,26 +105,30 @@ public class DefaultRouteResolver implements RouteResolver {
             return null;
         }
 
-        Deque<PathDetails> paths = new ArrayDeque<>();
-        StringBuilder pathBuilder = new StringBuilder(pathSegments.get(0));
-        if (!"".equals(pathSegments.get(0))) {
-            paths.push(new PathDetails("", pathSegments));
-        }
-        for (int i = 0; i < pathSegments.size(); i++) {
+        // Build the full path once and probe its prefixes, longest first
+        int size = pathSegments.size();
+        int[] prefixEnds = new int[size];
+        StringBuilder pathBuilder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
             if (i != 0) {
-                pathBuilder.append("/").append(pathSegments.get(i));
+                pathBuilder.append('/');
             }
-            paths.push(new PathDetails(pathBuilder.toString(),
-                    pathSegments.subList(i + 1, pathSegments.size())));
+            pathBuilder.append(pathSegments.get(i));
+            prefixEnds[i] = pathBuilder.length();
         }
-        while (!paths.isEmpty()) {
-            PathDetails pathDetails = paths.pop();
-            Optional<?> target = registry.getNavigationTarget(pathDetails.path,
-                    pathDetails.segments);
-            if (target.isPresent()) {
-                return pathDetails;
+        String fullPath = pathBuilder.toString();
+
+        for (int i = size - 1; i >= 0; i--) {
+            String path = fullPath.substring(0, prefixEnds[i]);
+            List<String> segments = pathSegments.subList(i + 1, size);
+            if (registry.getNavigationTarget(path, segments).isPresent()) {
+                return new PathDetails(path, segments);
             }
         }
+        if (!"".equals(pathSegments.get(0)) && registry
+                .getNavigationTarget("", pathSegments).isPresent()) {
+            return new PathDetails("", pathSegments);
+        }
         return null;
     }
 
@@ -146,12 +147,10 @@ public class DefaultRouteResolver implements RouteResolver {
                         "No navigation target found for path '%s'.", path)));
     }
 
-    private List<String> getPathParameters(String completePath,
-            String routePath) {
-        assert completePath != null;
-        assert routePath != null;
+    private List<String> getPathParameters(List<String> parameterSegments) {
+        assert parameterSegments != null;
 
-        String parameterPart = completePath.replaceFirst(routePath, "");
+        String parameterPart = String.join("/", parameterSegments);
         if (parameterPart.startsWith("/")) {
             parameterPart = parameterPart.substring(1, parameterPart.length());
         }
@@ -113,6 +113,13 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
             + "/client.nocache.js";
     private static final String BOOTSTRAP_JS = readResource(
             "BootstrapHandler.js");
+    /**
+     * The bootstrap script split at its <code>{{PLACEHOLDER}}</code> markers
+     * so that each request only needs to splice in its own values. Even
+     * indices contain literal script text, odd indices placeholder names.
+     */
+    private static final List<String> BOOTSTRAP_JS_SEGMENTS = splitTemplate(
+            BOOTSTRAP_JS);
     private static final String BABEL_HELPERS_JS = readResource(
             "babel-helpers.min.js");
     private static final String ES6_COLLECTIONS = "//<![CDATA[\n"
@@ -476,18 +483,24 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                 response::setDateHeader);
 
         Document document = pageBuilder.getBootstrapPage(context);
-        writeBootstrapPage(response, document.outerHtml());
+        writeBootstrapPage(response, document);
 
         return true;
     }
 
-    private void writeBootstrapPage(VaadinResponse response, String html)
-            throws IOException {
+    private void writeBootstrapPage(VaadinResponse response,
+            Document document) throws IOException {
         response.setContentType(
                 ApplicationConstants.CONTENT_TYPE_TEXT_HTML_UTF_8);
         try (BufferedWriter writer = new BufferedWriter(
                 new OutputStreamWriter(response.getOutputStream(), UTF_8))) {
-            writer.append(html);
+            if (document.outputSettings().prettyPrint()) {
+                writer.append(document.outerHtml());
+            } else {
+                // Serialize straight into the response instead of building
+                // the whole page as an intermediate string
+                document.html(writer);
+            }
         }
     }
 
@@ -513,6 +526,12 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
     protected static final class BootstrapPageBuilder
             implements PageBuilder, Serializable {
 
+        /**
+         * Webpack chunks, only cached in production mode where the stats file
+         * cannot change while the application is running.
+         */
+        private transient volatile JsonObject productionChunks;
+
         /**
          * Returns the bootstrap page for the given context.
          *
@@ -904,15 +923,7 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
         private void appendNpmBundle(Element head, VaadinService service,
                 BootstrapContext context) throws IOException {
-            String content = FrontendUtils.getStatsAssetsByChunkName(service);
-            if (content == null) {
-                throw new IOException(
-                        "The stats file from webpack (stats.json) was not found.\n"
-                                + "This typically mean that you have started the application without executing the 'prepare-frontend' Maven target.\n"
-                                + "If you are using Spring Boot and are launching the Application class directly, "
-                                + "you need to run \"mvn install\" once first or launch the application using \"mvn spring-boot:run\"");
-            }
-            JsonObject chunks = Json.parse(content);
+            JsonObject chunks = getChunks(service);
             for (String key : chunks.keys()) {
                 String chunkName;
                 if(chunks.get(key).getType().equals(JsonType.ARRAY)) {
@@ -939,6 +950,29 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
             }
         }
 
+        private JsonObject getChunks(VaadinService service)
+                throws IOException {
+            boolean productionMode = service.getDeploymentConfiguration()
+                    .isProductionMode();
+            JsonObject chunks = productionChunks;
+            if (productionMode && chunks != null) {
+                return chunks;
+            }
+            String content = FrontendUtils.getStatsAssetsByChunkName(service);
+            if (content == null) {
+                throw new IOException(
+                        "The stats file from webpack (stats.json) was not found.\n"
+                                + "This typically mean that you have started the application without executing the 'prepare-frontend' Maven target.\n"
+                                + "If you are using Spring Boot and are launching the Application class directly, "
+                                + "you need to run \"mvn install\" once first or launch the application using \"mvn spring-boot:run\"");
+            }
+            chunks = Json.parse(content);
+            if (productionMode) {
+                productionChunks = chunks;
+            }
+            return chunks;
+        }
+
         private String getArrayChunkName(JsonObject chunks, String key) {
             JsonArray chunkArray = chunks.getArray(key);
 
@@ -1264,19 +1298,19 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                     + getBootstrapJS(initialUIDL, context) + "//]]>");
         }
 
-        private String getBootstrapJS() {
+        private List<String> getBootstrapJS() {
             if (BOOTSTRAP_JS.isEmpty()) {
                 throw new BootstrapException(
                         "BootstrapHandler.js has not been loaded during initialization");
             }
-            return BOOTSTRAP_JS;
+            return BOOTSTRAP_JS_SEGMENTS;
         }
 
         private String getBootstrapJS(JsonValue initialUIDL,
                 BootstrapContext context) {
             boolean productionMode = context.getSession().getConfiguration()
                     .isProductionMode();
-            String result = getBootstrapJS();
+            List<String> segments = getBootstrapJS();
             JsonObject appConfig = context.getApplicationParameters();
 
             int indent = 0;
@@ -1298,25 +1332,44 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
              */
             initialUIDLString = initialUIDLString.replace("<", "\\x3C");
 
-            if (!productionMode) {
-                // only used in debug mode by profiler
-                result = result.replace("{{GWT_STAT_EVENTS}}",
-                        GWT_STAT_EVENTS_JS);
-            } else {
-                result = result.replace("{{GWT_STAT_EVENTS}}", "");
+            StringBuilder result = new StringBuilder(
+                    BOOTSTRAP_JS.length() + appConfigString.length()
+                            + initialUIDLString.length());
+            // Values are spliced in a single pass, so the initial UIDL and the
+            // configuration may contain placeholder-like text without it
+            // being replaced
+            for (int i = 0; i < segments.size(); i++) {
+                String segment = segments.get(i);
+                if (i % 2 == 0) {
+                    result.append(segment);
+                    continue;
+                }
+                switch (segment) {
+                case "GWT_STAT_EVENTS":
+                    // only used in debug mode by profiler
+                    if (!productionMode) {
+                        result.append(GWT_STAT_EVENTS_JS);
+                    }
+                    break;
+                case "APP_ID":
+                    result.append(context.getAppId());
+                    break;
+                case "CONFIG_JSON":
+                    result.append(appConfigString);
+                    break;
+                case "INITIAL_UIDL":
+                    result.append(initialUIDLString);
+                    break;
+                case "PRODUCTION_MODE":
+                    // set productionMode early because WC detector might be
+                    // run before client initialization finishes.
+                    result.append(productionMode);
+                    break;
+                default:
+                    result.append("{{").append(segment).append("}}");
+                }
             }
-
-            result = result.replace("{{APP_ID}}", context.getAppId());
-            result = result.replace("{{CONFIG_JSON}}", appConfigString);
-            // {{INITIAL_UIDL}} should be the last replaced so that it may have
-            // other patterns inside it (like {{CONFIG_JSON}})
-            result = result.replace("{{INITIAL_UIDL}}", initialUIDLString);
-
-            // set productionMode early because WC detector might be run before
-            // client initialization finishes.
-            result = result.replace("{{PRODUCTION_MODE}}",
-                    String.valueOf(productionMode));
-            return result;
+            return result.toString();
         }
     }
 
@@ -1573,6 +1626,32 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
         }
     }
 
+    /**
+     * Splits the given template at its <code>{{NAME}}</code> placeholders.
+     *
+     * @param template
+     *            the template to split, not <code>null</code>
+     * @return an unmodifiable list where even indices contain literal text
+     *         and odd indices placeholder names
+     */
+    static List<String> splitTemplate(String template) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int open = template.indexOf("{{");
+        while (open >= 0) {
+            int close = template.indexOf("}}", open + 2);
+            if (close < 0) {
+                break;
+            }
+            segments.add(template.substring(start, open));
+            segments.add(template.substring(open + 2, close));
+            start = close + 2;
+            open = template.indexOf("{{", start);
+        }
+        segments.add(template.substring(start));
+        return Collections.unmodifiableList(segments);
+    }
+
     protected static String readResource(String fileName) {
         try (InputStream stream = BootstrapHandler.class
                 .getResourceAsStream(fileName);
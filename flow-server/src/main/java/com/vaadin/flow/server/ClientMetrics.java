@@ -0,0 +1,175 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+/**
+ * Aggregates the metrics reported by the browsers showing one navigation
+ * target: how many server messages they have processed and how long that
+ * took, the round trip times they have observed and how often they have
+ * needed to resynchronize.
+ *
+ * @author Vaadin Ltd
+ * @since 2.3
+ * @see VaadinService#getClientMetrics()
+ */
+public class ClientMetrics implements Serializable {
+
+    /**
+     * The largest value accepted for a single entry of a report. Reports are
+     * sent at most every 30 seconds, so legitimate values stay far below.
+     */
+    static final long MAX_REPORTED_VALUE = Integer.MAX_VALUE;
+
+    private static final String[] REPORT_KEYS = {
+            ApplicationConstants.CLIENT_METRICS_MESSAGES,
+            ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME,
+            ApplicationConstants.CLIENT_METRICS_ROUND_TRIPS,
+            ApplicationConstants.CLIENT_METRICS_ROUND_TRIP_TIME,
+            ApplicationConstants.CLIENT_METRICS_RESYNCHRONIZATIONS };
+
+    private final LongAdder reports = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder processingMillis = new LongAdder();
+    private final LongAdder roundTrips = new LongAdder();
+    private final LongAdder roundTripMillis = new LongAdder();
+    private final LongAdder resynchronizations = new LongAdder();
+
+    /**
+     * Checks that all values of a report sent by a client are numbers within
+     * the accepted range, so that a misbehaving client cannot corrupt the
+     * aggregated values.
+     *
+     * @param report
+     *            the metrics reported by the client, not <code>null</code>
+     * @return <code>true</code> if the report can be recorded,
+     *         <code>false</code> if it should be ignored
+     */
+    static boolean isValidReport(JsonObject report) {
+        for (String key : REPORT_KEYS) {
+            if (!report.hasKey(key)) {
+                continue;
+            }
+            JsonValue value = report.get(key);
+            if (value.getType() != JsonType.NUMBER) {
+                return false;
+            }
+            double number = value.asNumber();
+            // Also false for NaN
+            if (!(number >= 0 && number <= MAX_REPORTED_VALUE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a report sent by the client.
+     *
+     * @param report
+     *            the metrics reported by the client, validated with
+     *            {@link #isValidReport(JsonObject)}, not <code>null</code>
+     */
+    void record(JsonObject report) {
+        reports.increment();
+        messages.add(getLong(report,
+                ApplicationConstants.CLIENT_METRICS_MESSAGES));
+        processingMillis.add(getLong(report,
+                ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME));
+        roundTrips.add(getLong(report,
+                ApplicationConstants.CLIENT_METRICS_ROUND_TRIPS));
+        roundTripMillis.add(getLong(report,
+                ApplicationConstants.CLIENT_METRICS_ROUND_TRIP_TIME));
+        resynchronizations.add(getLong(report,
+                ApplicationConstants.CLIENT_METRICS_RESYNCHRONIZATIONS));
+    }
+
+    private static long getLong(JsonObject report, String key) {
+        if (!report.hasKey(key)) {
+            return 0;
+        }
+        return (long) report.getNumber(key);
+    }
+
+    /**
+     * Gets the number of reports received from clients.
+     *
+     * @return the number of reports
+     */
+    public long getReportCount() {
+        return reports.sum();
+    }
+
+    /**
+     * Gets the number of server messages processed by the clients.
+     *
+     * @return the number of processed messages
+     */
+    public long getProcessedMessageCount() {
+        return messages.sum();
+    }
+
+    /**
+     * Gets the average time a client spent processing a server message,
+     * including parsing and applying the changes.
+     *
+     * @return the average processing time in milliseconds, or 0 if no
+     *         messages have been reported
+     */
+    public long getAverageProcessingMillis() {
+        long count = getProcessedMessageCount();
+        return count == 0 ? 0 : processingMillis.sum() / count;
+    }
+
+    /**
+     * Gets the number of round trips measured by the clients.
+     *
+     * @return the number of round trips
+     */
+    public long getRoundTripCount() {
+        return roundTrips.sum();
+    }
+
+    /**
+     * Gets the average time from a client sending a message until it has
+     * handled the response.
+     *
+     * @return the average round trip time in milliseconds, or 0 if no round
+     *         trips have been reported
+     */
+    public long getAverageRoundTripMillis() {
+        long count = getRoundTripCount();
+        return count == 0 ? 0 : roundTripMillis.sum() / count;
+    }
+
+    /**
+     * Gets the number of times the clients have requested a
+     * resynchronization.
+     *
+     * @return the number of resynchronizations
+     */
+    public long getResynchronizationCount() {
+        return resynchronizations.sum();
+    }
+}
@@ -70,6 +70,46 @@ public final class Constants implements Serializable {
     public static final String SERVLET_PARAMETER_SEND_URLS_AS_PARAMETERS = "sendUrlsAsParameters";
     public static final String SERVLET_PARAMETER_PUSH_SUSPEND_TIMEOUT_LONGPOLLING = "pushLongPollingSuspendTimeout";
 
+    /**
+     * Configuration name for the parameter that determines how many of the
+     * most recently sent messages are kept per UI for replaying to a client
+     * which has not received them. Replaying is disabled by default.
+     */
+    public static final String SERVLET_PARAMETER_MESSAGE_REPLAY_BUFFER_SIZE = "messageReplayBufferSize";
+
+    /**
+     * Configuration name for the parameter that determines whether nodes
+     * inside an inactive (e.g. invisible) element are sent to the client only
+     * once the element becomes active. Disabled by default.
+     */
+    public static final String SERVLET_PARAMETER_DEFER_INACTIVE_SUBTREES = "deferInactiveSubtrees";
+
+    /**
+     * Configuration name for the parameter that determines whether static
+     * resources are cached in memory in production mode. Enabled by default.
+     */
+    public static final String SERVLET_PARAMETER_STATIC_RESOURCE_CACHE = "staticResourceCache";
+
+    /**
+     * Configuration name for the parameter that determines the maximum number
+     * of static resources kept in the static resource cache.
+     */
+    public static final String SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_MAX_ENTRIES = "staticResourceCacheMaxEntries";
+
+    /**
+     * Configuration name for the parameter that determines the maximum total
+     * size in bytes of the resource contents kept in the static resource
+     * cache.
+     */
+    public static final String SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_MAX_BYTES = "staticResourceCacheMaxBytes";
+
+    /**
+     * Configuration name for the parameter that determines the size in bytes
+     * of the largest static resource whose contents are kept in memory.
+     * Larger resources are streamed for each request.
+     */
+    public static final String SERVLET_PARAMETER_STATIC_RESOURCE_CACHE_MAX_RESOURCE_BYTES = "staticResourceCacheMaxResourceBytes";
+
     public static final String SERVLET_PARAMETER_JSBUNDLE = "module.bundle";
     public static final String SERVLET_PARAMETER_POLYFILLS = "module.polyfills";
     public static final String POLYFILLS_DEFAULT_VALUE = "build/webcomponentsjs/webcomponents-loader.js";
@@ -33,7 +33,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -92,6 +95,14 @@ public final class DevModeHandler {
     private static final int DEFAULT_TIMEOUT = 120 * 1000;
     private static final String WEBPACK_HOST = "http://localhost";
 
+    // Headers that apply to a single connection and must not be forwarded
+    // by a proxy, see RFC 7230 section 6.1. Leaving them to the JDK lets it
+    // keep the connections to webpack alive between requests.
+    private static final Set<String> HOP_BY_HOP_HEADERS = new HashSet<>(
+            Arrays.asList("connection", "keep-alive", "proxy-authenticate",
+                    "proxy-authorization", "te", "trailer",
+                    "transfer-encoding", "upgrade"));
+
     private boolean notified = false;
 
     private String failedOutput;
@@ -335,14 +346,14 @@ public final class DevModeHandler {
         HttpURLConnection connection = prepareConnection(requestFilename,
                 request.getMethod());
 
-        // Copies all the headers from the original request
+        // Copies the end-to-end headers from the original request
         Enumeration<String> headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
             String header = headerNames.nextElement();
-            connection.setRequestProperty(header,
-                    // Exclude keep-alive
-                    "Connect".equals(header) ? "close"
-                            : request.getHeader(header));
+            if (!isHopByHopHeader(header)) {
+                connection.setRequestProperty(header,
+                        request.getHeader(header));
+            }
         }
 
         // Send the request
@@ -354,6 +365,7 @@ public final class DevModeHandler {
                     requestFilename);
             // webpack cannot access the resource, return false so as flow can
             // handle it
+            discardResponse(connection, responseCode);
             return false;
         }
         getLogger().debug("Served resource by webpack: {} {}", responseCode,
@@ -361,20 +373,23 @@ public final class DevModeHandler {
 
         // Copies response headers
         connection.getHeaderFields().forEach((header, values) -> {
-            if (header != null) {
+            if (header != null && !isHopByHopHeader(header)) {
                 response.addHeader(header, values.get(0));
             }
         });
 
         if (responseCode == HTTP_OK) {
             // Copies response payload
-            writeStream(response.getOutputStream(),
-                    connection.getInputStream());
+            try (InputStream inputStream = connection.getInputStream()) {
+                writeStream(response.getOutputStream(), inputStream);
+            }
         } else if (responseCode < 400) {
             response.setStatus(responseCode);
+            discardResponse(connection, responseCode);
         } else {
             // Copies response code
             response.sendError(responseCode);
+            discardResponse(connection, responseCode);
         }
 
         // Close request to avoid issues in CI and Chrome
@@ -383,6 +398,32 @@ public final class DevModeHandler {
         return true;
     }
 
+    private static boolean isHopByHopHeader(String header) {
+        return HOP_BY_HOP_HEADERS
+                .contains(header.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Reads and closes the unused body of a webpack response. The JDK only
+     * returns a connection to its keep-alive cache once the body has been
+     * consumed, otherwise the next request needs a new connection.
+     */
+    private static void discardResponse(HttpURLConnection connection,
+            int responseCode) {
+        try (InputStream stream = responseCode < 400
+                ? connection.getInputStream()
+                : connection.getErrorStream()) {
+            if (stream != null) {
+                final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+                while (stream.read(buffer) >= 0) {
+                    // discard
+                }
+            }
+        } catch (IOException e) {
+            getLogger().debug("Unable to discard webpack response body", e);
+        }
+    }
+
     private boolean checkWebpackConnection() {
         try {
             prepareConnection("/", "GET").getResponseCode();
@@ -89,6 +89,27 @@ public class HandlerHelper implements Serializable {
                 .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER));
     }
 
+    /**
+     * Gets the type of the given request.
+     *
+     * @param request
+     *            the request to check
+     * @return the request type, or <code>null</code> if the request has no
+     *         known request type
+     */
+    public static RequestType getRequestType(VaadinRequest request) {
+        String identifier = request
+                .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER);
+        if (identifier != null) {
+            for (RequestType requestType : RequestType.values()) {
+                if (requestType.getIdentifier().equals(identifier)) {
+                    return requestType;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Helper to find the most most suitable Locale. These potential sources are
      * checked in order until a Locale is found:
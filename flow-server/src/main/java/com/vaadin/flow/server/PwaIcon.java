@@ -28,6 +28,8 @@ import java.util.Map;
 
 import org.jsoup.nodes.Element;
 
+import com.vaadin.flow.function.SerializableSupplier;
+
 /**
  * Implementation of icons used in PWA resources.
  *
@@ -58,7 +60,8 @@ public class PwaIcon implements Serializable {
     private long fileHash;
     private String baseName;
     private Domain domain;
-    private byte[] data;
+    private volatile byte[] data;
+    private SerializableSupplier<BufferedImage> imageRenderer;
 
     private final Map<String, String> attributes = new HashMap<>();
     private String tag = "link";
@@ -207,12 +210,59 @@ public class PwaIcon implements Serializable {
      *            the image in png format
      */
     public void setImage(BufferedImage image) {
+        imageRenderer = null;
+        data = encode(image);
+        fileHash = Arrays.hashCode(data);
+        setRelativeName();
+    }
+
+    /**
+     * Sets a renderer that draws the image presenting the icon the first time
+     * it is written. The file hash is given up front since it is needed for
+     * the {@literal href} and the service worker revision before any image
+     * exists.
+     *
+     * @param fileHash
+     *            hash identifying the image contents
+     * @param imageRenderer
+     *            supplier of the icon image, not {@code null}
+     */
+    void setImageRenderer(long fileHash,
+            SerializableSupplier<BufferedImage> imageRenderer) {
+        this.imageRenderer = imageRenderer;
+        this.fileHash = fileHash;
+        data = null;
+        setRelativeName();
+    }
+
+    /**
+     * Gets the hash identifying the image contents.
+     *
+     * @return the file hash of the image
+     */
+    public long getFileHash() {
+        return fileHash;
+    }
+
+    private byte[] getData() {
+        byte[] bytes = data;
+        if (bytes == null && imageRenderer != null) {
+            synchronized (this) {
+                bytes = data;
+                if (bytes == null) {
+                    bytes = encode(imageRenderer.get());
+                    data = bytes;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static byte[] encode(BufferedImage image) {
         try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
             ImageIO.write(image, "png", stream);
             stream.flush();
-            data = stream.toByteArray();
-            fileHash = Arrays.hashCode(data);
-            setRelativeName();
+            return stream.toByteArray();
         } catch (IOException ioe) {
             throw new UncheckedIOException("Failed to write an image ", ioe);
         }
@@ -226,7 +276,7 @@ public class PwaIcon implements Serializable {
      */
     public void write(OutputStream outputStream) {
         try {
-            outputStream.write(data);
+            outputStream.write(getData());
         } catch (IOException ioe) {
             throw new UncheckedIOException(
                     "Failed to store the icon image into the stream provided",
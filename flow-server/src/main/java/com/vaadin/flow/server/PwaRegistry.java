@@ -20,6 +20,7 @@ import javax.servlet.ServletContext;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -29,6 +30,7 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -38,6 +40,7 @@ import com.vaadin.flow.server.startup.ApplicationRouteRegistry;
 import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -70,6 +73,9 @@ public class PwaRegistry implements Serializable {
     private long offlineHash;
     private List<PwaIcon> icons = new ArrayList<>();
     private final PwaConfiguration pwaConfiguration;
+    private byte[] logoData;
+    private int bgColor;
+    private transient BufferedImage baseImage;
 
     private PwaRegistry(PWA pwa, ServletContext servletContext)
             throws IOException {
@@ -90,16 +96,17 @@ public class PwaRegistry implements Serializable {
                     .getResource(pwaConfiguration.relOfflinePath());
             // Load base logo from servlet context if available
             // fall back to local image if unavailable
-            BufferedImage baseImage = getBaseImage(logo);
+            logoData = getLogoData(logo);
+            baseImage = decodeLogo(logoData);
 
             if (baseImage == null) {
                 LoggerFactory.getLogger(PwaRegistry.class).error("Image is not found or can't be loaded: " + logo);
             } else {
                 // Pick top-left pixel as fill color if needed for image resizing
-                int bgColor = baseImage.getRGB(0, 0);
+                bgColor = baseImage.getRGB(0, 0);
 
                 // initialize icons
-                icons = initializeIcons(baseImage, bgColor);
+                icons = initializeIcons();
             }
 
             // Load offline page as string, from servlet context if
@@ -118,17 +125,28 @@ public class PwaRegistry implements Serializable {
         }
     }
 
-    private List<PwaIcon> initializeIcons(BufferedImage baseImage,
-            int bgColor) {
+    private List<PwaIcon> initializeIcons() {
+        int logoHash = Arrays.hashCode(logoData);
         for (PwaIcon icon : getIconTemplates(pwaConfiguration.getIconPath())) {
-            // New image with wanted size
-            icon.setImage(drawIconImage(baseImage, bgColor, icon));
-            // Store byte array and hashcode of image (GeneratedImage)
+            // Images are drawn and encoded on the first request for each
+            // size, many of them (e.g. splash screens) are rarely requested.
+            // The hash only depends on the logo and the size, so it changes
+            // whenever the generated image would change.
+            icon.setImageRenderer(31L * logoHash + icon.getSizes().hashCode(),
+                    () -> drawIconImage(getBaseImage(), bgColor, icon));
             icons.add(icon);
         }
         return icons;
     }
 
+    private synchronized BufferedImage getBaseImage() {
+        if (baseImage == null) {
+            // Decoded image is not serializable, decode it again
+            baseImage = decodeLogo(logoData);
+        }
+        return baseImage;
+    }
+
     private BufferedImage drawIconImage(BufferedImage baseImage, int bgColor,
             PwaIcon icon) {
         BufferedImage bimage = new BufferedImage(icon.getWidth(),
@@ -360,11 +378,21 @@ public class PwaRegistry implements Serializable {
         }
     }
 
-    private BufferedImage getBaseImage(URL logo) throws IOException {
+    private byte[] getLogoData(URL logo) throws IOException {
         URLConnection logoResource = logo != null ? logo.openConnection()
                 : BootstrapHandler.class.getResource("default-logo.png")
                         .openConnection();
-        return ImageIO.read(logoResource.getInputStream());
+        try (InputStream stream = logoResource.getInputStream()) {
+            return IOUtils.toByteArray(stream);
+        }
+    }
+
+    private static BufferedImage decodeLogo(byte[] logoData) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(logoData));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException("Failed to read the PWA logo", ioe);
+        }
     }
 
     /**
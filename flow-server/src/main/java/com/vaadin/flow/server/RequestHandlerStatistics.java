@@ -0,0 +1,73 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the requests a {@link RequestHandler} has handled and the time spent
+ * handling them.
+ *
+ * @author Vaadin Ltd
+ * @since
+ * @see VaadinService#getRequestHandlerStatistics()
+ */
+public class RequestHandlerStatistics implements Serializable {
+
+    private final LongAdder handledCount = new LongAdder();
+    private final LongAdder handlingNanos = new LongAdder();
+
+    /**
+     * Records a request handled by the request handler.
+     *
+     * @param nanos
+     *            the time spent handling the request, in nanoseconds
+     */
+    void recordHandled(long nanos) {
+        handledCount.increment();
+        handlingNanos.add(nanos);
+    }
+
+    /**
+     * Gets the number of requests the request handler has handled.
+     *
+     * @return the number of handled requests
+     */
+    public long getHandledCount() {
+        return handledCount.sum();
+    }
+
+    /**
+     * Gets the total time the request handler has spent handling requests.
+     *
+     * @return the total handling time in nanoseconds
+     */
+    public long getTotalHandlingNanos() {
+        return handlingNanos.sum();
+    }
+
+    /**
+     * Gets the average time the request handler has spent handling a request.
+     *
+     * @return the average handling time in nanoseconds, or 0 if no requests
+     *         have been handled
+     */
+    public long getAverageHandlingNanos() {
+        long count = getHandledCount();
+        return count == 0 ? 0 : getTotalHandlingNanos() / count;
+    }
+}
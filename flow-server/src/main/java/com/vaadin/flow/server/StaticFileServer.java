@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.ResponseWriter;
+import com.vaadin.flow.server.StaticResourceCache.CachedResource;
 
 import static com.vaadin.flow.server.Constants.VAADIN_BUILD_FILES_PATH;
 import static com.vaadin.flow.server.Constants.VAADIN_MAPPING;
@@ -58,6 +59,7 @@ public class StaticFileServer implements StaticFileHandler {
             .compile("(/|\\\\)\\.\\.(/|\\\\)", Pattern.CASE_INSENSITIVE);
 
     private final ResponseWriter responseWriter;
+    private final StaticResourceCache resourceCache;
     private final VaadinServletService servletService;
     private DeploymentConfiguration deploymentConfiguration;
 
@@ -71,6 +73,15 @@ public class StaticFileServer implements StaticFileHandler {
         this.servletService = servletService;
         deploymentConfiguration = servletService.getDeploymentConfiguration();
         responseWriter = new ResponseWriter(deploymentConfiguration);
+        if (deploymentConfiguration.isStaticResourceCacheEnabled()) {
+            resourceCache = new StaticResourceCache(
+                    deploymentConfiguration.getStaticResourceCacheMaxEntries(),
+                    deploymentConfiguration.getStaticResourceCacheMaxBytes(),
+                    deploymentConfiguration
+                            .getStaticResourceCacheMaxResourceBytes());
+        } else {
+            resourceCache = null;
+        }
     }
 
     @Override
@@ -114,21 +125,20 @@ public class StaticFileServer implements StaticFileHandler {
             return true;
         }
 
-        URL resourceUrl = null;
-        if (isAllowedVAADINBuildUrl(filenameWithPath)) {
-            resourceUrl = servletService.getClassLoader()
-                    .getResource("META-INF" + filenameWithPath);
-        }
-        if (resourceUrl == null) {
-            resourceUrl = servletService.getStaticResource(filenameWithPath);
-        }
-        if (resourceUrl == null && shouldFixIncorrectWebjarPaths()
-                && isIncorrectWebjarPath(filenameWithPath)) {
-            // Flow issue #4601
-            resourceUrl = servletService.getStaticResource(
-                    fixIncorrectWebjarPath(filenameWithPath));
+        if (resourceCache != null
+                && deploymentConfiguration.isProductionMode()) {
+            // Resources cannot change while running in production mode
+            CachedResource cached = getCachedResource(filenameWithPath);
+            if (cached == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return true;
+            }
+            serveCachedResource(filenameWithPath, cached, request, response);
+            return true;
         }
 
+        URL resourceUrl = resolveResourceUrl(filenameWithPath);
+
         if (resourceUrl == null) {
             // Not found in webcontent or in META-INF/resources in some JAR
             response.sendError(HttpServletResponse.SC_NOT_FOUND);
@@ -153,6 +163,132 @@ public class StaticFileServer implements StaticFileHandler {
         return true;
     }
 
+    private URL resolveResourceUrl(String filenameWithPath) {
+        URL resourceUrl = null;
+        if (isAllowedVAADINBuildUrl(filenameWithPath)) {
+            resourceUrl = servletService.getClassLoader()
+                    .getResource("META-INF" + filenameWithPath);
+        }
+        if (resourceUrl == null) {
+            resourceUrl = servletService.getStaticResource(filenameWithPath);
+        }
+        if (resourceUrl == null && shouldFixIncorrectWebjarPaths()
+                && isIncorrectWebjarPath(filenameWithPath)) {
+            // Flow issue #4601
+            resourceUrl = servletService.getStaticResource(
+                    fixIncorrectWebjarPath(filenameWithPath));
+        }
+        return resourceUrl;
+    }
+
+    private CachedResource getCachedResource(String filenameWithPath) {
+        CachedResource cached = resourceCache.get(filenameWithPath);
+        if (cached != null) {
+            return cached;
+        }
+        URL resourceUrl = resolveResourceUrl(filenameWithPath);
+        if (resourceUrl == null) {
+            // Missing resources are not cached so that requests for random
+            // paths cannot evict the actual resources
+            return null;
+        }
+        try {
+            cached = resourceCache.load(filenameWithPath, resourceUrl,
+                    resolveResourceUrl(filenameWithPath + ".gz"));
+            resourceCache.put(filenameWithPath, cached);
+        } catch (IOException e) {
+            getLogger().debug("Unable to cache static resource {}",
+                    filenameWithPath, e);
+            cached = StaticResourceCache.locationOnly(resourceUrl);
+        }
+        return cached;
+    }
+
+    private void serveCachedResource(String filenameWithPath,
+            CachedResource cached, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        // Intentionally writing cache headers also for 304 responses
+        writeCacheHeaders(filenameWithPath, response);
+        if (cached.getLastModified() != -1L) {
+            response.setDateHeader("Last-Modified", cached.getLastModified());
+        }
+
+        if (cached.getContents() == null || (deploymentConfiguration.isBrotli()
+                && ResponseWriter.acceptsEncoding(request, "br"))) {
+            // Too large to keep in memory or a precompressed Brotli variant
+            // may be preferred: stream it from its known location
+            if (browserHasNewestVersion(request, cached.getLastModified())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            responseWriter.writeResponseContents(filenameWithPath,
+                    cached.getUrl(), request, response);
+            return;
+        }
+
+        byte[] contents = cached.getContents();
+        String etag = cached.getEtag();
+        boolean gzipped = false;
+        if (cached.getGzippedContents() != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+            if (ResponseWriter.acceptsEncoding(request, "gzip")) {
+                contents = cached.getGzippedContents();
+                etag = cached.getGzippedEtag();
+                gzipped = true;
+            }
+        }
+        response.setHeader("ETag", etag);
+
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        boolean browserHasNewestVersion = ifNoneMatch != null
+                ? matchesEtag(ifNoneMatch, etag)
+                : browserHasNewestVersion(request, cached.getLastModified());
+        if (browserHasNewestVersion) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String mimetype = request.getServletContext()
+                .getMimeType(filenameWithPath);
+        if (mimetype != null) {
+            response.setContentType(mimetype);
+        }
+        if (gzipped) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        response.setContentLengthLong(contents.length);
+        try {
+            response.getOutputStream().write(contents);
+        } catch (IOException e) {
+            getLogger().debug("Error writing static file to user", e);
+        }
+    }
+
+    /**
+     * Checks whether the given If-None-Match header value matches the ETag,
+     * using the weak comparison mandated for If-None-Match.
+     * <p>
+     * Package private for testing purposes.
+     *
+     * @param ifNoneMatch
+     *            the If-None-Match header value, not <code>null</code>
+     * @param etag
+     *            the ETag of the resource, not <code>null</code>
+     * @return <code>true</code> if the browser has the given version
+     */
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if ("*".equals(candidate) || etag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // When referring to webjar resources from application stylesheets (loaded
     // using @StyleSheet) using relative paths, the paths will be different in
     // development mode and in production mode. The reason is that in production
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import com.vaadin.flow.internal.MessageDigestUtil;
+
+/**
+ * A size-bounded, least recently used cache of static resources served by
+ * {@link StaticFileServer} in production mode.
+ * <p>
+ * Each entry holds the resolved resource URL and its modification timestamp.
+ * Resources small enough to be kept in memory additionally hold their raw
+ * contents, a gzipped variant and strong ETags for both, so that they can be
+ * served without touching the servlet container or class loader again.
+ * <p>
+ * The cache and its bounds are configured through the
+ * {@link com.vaadin.flow.function.DeploymentConfiguration}.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+class StaticResourceCache implements Serializable {
+
+    private static final String[] COMPRESSIBLE_EXTENSIONS = { ".js", ".mjs",
+            ".css", ".html", ".htm", ".json", ".map", ".svg", ".txt", ".xml" };
+
+    /**
+     * A cached static resource.
+     */
+    static final class CachedResource implements Serializable {
+        private final URL url;
+        private final long lastModified;
+        private final byte[] contents;
+        private final String etag;
+        private final byte[] gzippedContents;
+        private final String gzippedEtag;
+
+        private CachedResource(URL url, long lastModified, byte[] contents,
+                byte[] gzippedContents) {
+            this.url = url;
+            this.lastModified = lastModified;
+            this.contents = contents;
+            this.gzippedContents = gzippedContents;
+            if (contents == null) {
+                etag = null;
+                gzippedEtag = null;
+            } else {
+                String hash = Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(MessageDigestUtil.sha256(contents));
+                etag = '"' + hash + '"';
+                gzippedEtag = gzippedContents == null ? null
+                        : '"' + hash + "-gzip\"";
+            }
+        }
+
+        /**
+         * Gets the resolved location of the resource.
+         *
+         * @return the resource URL, not <code>null</code>
+         */
+        URL getUrl() {
+            return url;
+        }
+
+        /**
+         * Gets the modification timestamp of the resource with milliseconds
+         * removed.
+         *
+         * @return the modification timestamp or -1 if not known
+         */
+        long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Gets the raw contents of the resource.
+         *
+         * @return the contents or <code>null</code> if the resource is too
+         *         large to be kept in memory
+         */
+        byte[] getContents() {
+            return contents;
+        }
+
+        /**
+         * Gets the strong ETag of the raw contents.
+         *
+         * @return the ETag or <code>null</code> if the resource is not kept
+         *         in memory
+         */
+        String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Gets the gzipped contents of the resource.
+         *
+         * @return the gzipped contents or <code>null</code> if there is no
+         *         gzipped variant
+         */
+        byte[] getGzippedContents() {
+            return gzippedContents;
+        }
+
+        /**
+         * Gets the strong ETag of the gzipped contents.
+         *
+         * @return the ETag or <code>null</code> if there is no gzipped variant
+         */
+        String getGzippedEtag() {
+            return gzippedEtag;
+        }
+
+        private long getSize() {
+            long size = 0;
+            if (contents != null) {
+                size += contents.length;
+            }
+            if (gzippedContents != null) {
+                size += gzippedContents.length;
+            }
+            return size;
+        }
+    }
+
+    private final LinkedHashMap<String, CachedResource> entries = new LinkedHashMap<>(
+            16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxTotalBytes;
+    // Resources larger than this are only cached by location and are
+    // streamed from the container for each request
+    private final int maxResourceSize;
+    private long totalBytes;
+
+    /**
+     * Creates a cache with the given bounds.
+     *
+     * @param maxEntries
+     *            the maximum number of cached resources
+     * @param maxTotalBytes
+     *            the maximum total size of the cached contents in bytes
+     * @param maxResourceSize
+     *            the size in bytes of the largest resource whose contents
+     *            are kept in memory
+     */
+    StaticResourceCache(int maxEntries, long maxTotalBytes,
+            int maxResourceSize) {
+        this.maxEntries = maxEntries;
+        this.maxTotalBytes = maxTotalBytes;
+        this.maxResourceSize = maxResourceSize;
+    }
+
+    /**
+     * Gets the cached resource for the given request path and marks it as
+     * recently used.
+     *
+     * @param filenameWithPath
+     *            the requested path
+     * @return the cached resource or <code>null</code> if not cached
+     */
+    synchronized CachedResource get(String filenameWithPath) {
+        return entries.get(filenameWithPath);
+    }
+
+    /**
+     * Caches the given resource, evicting the least recently used entries if
+     * the cache grows beyond its bounds.
+     *
+     * @param filenameWithPath
+     *            the requested path
+     * @param resource
+     *            the resource to cache, not <code>null</code>
+     */
+    synchronized void put(String filenameWithPath, CachedResource resource) {
+        CachedResource previous = entries.put(filenameWithPath, resource);
+        if (previous != null) {
+            totalBytes -= previous.getSize();
+        }
+        totalBytes += resource.getSize();
+
+        Iterator<Map.Entry<String, CachedResource>> iterator = entries
+                .entrySet().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxTotalBytes)
+                && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().getSize();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Loads the resource at the given URL for caching.
+     *
+     * @param filenameWithPath
+     *            the requested path, used for determining whether the
+     *            resource is compressible
+     * @param url
+     *            the resolved resource URL, not <code>null</code>
+     * @param gzippedUrl
+     *            the URL of a precompressed gzip variant or <code>null</code>
+     *            if there is none
+     * @return the resource to cache
+     * @throws IOException
+     *             if the resource cannot be read
+     */
+    CachedResource load(String filenameWithPath, URL url, URL gzippedUrl)
+            throws IOException {
+        URLConnection connection = url.openConnection();
+        long lastModified = connection.getLastModified();
+        if (lastModified > 0) {
+            // Milliseconds are not returned by the browser in the
+            // "If-Modified-Since" header
+            lastModified -= lastModified % 1000;
+        } else {
+            lastModified = -1L;
+        }
+
+        byte[] contents;
+        try (InputStream stream = connection.getInputStream()) {
+            contents = read(stream);
+        }
+        if (contents == null) {
+            return new CachedResource(url, lastModified, null, null);
+        }
+
+        byte[] gzipped = null;
+        if (gzippedUrl != null) {
+            try (InputStream stream = gzippedUrl.openStream()) {
+                gzipped = read(stream);
+            }
+        } else if (isCompressible(filenameWithPath)) {
+            gzipped = gzip(contents);
+        }
+        if (gzipped != null && gzipped.length >= contents.length) {
+            gzipped = null;
+        }
+        return new CachedResource(url, lastModified, contents, gzipped);
+    }
+
+    /**
+     * Creates a resource which only remembers its location, for resources
+     * which could not be read for caching.
+     *
+     * @param url
+     *            the resolved resource URL, not <code>null</code>
+     * @return a resource without contents or modification timestamp
+     */
+    static CachedResource locationOnly(URL url) {
+        return new CachedResource(url, -1L, null, null);
+    }
+
+    private static boolean isCompressible(String filenameWithPath) {
+        for (String extension : COMPRESSIBLE_EXTENSIONS) {
+            if (filenameWithPath.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] read(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[32 * 1024];
+        int bytes;
+        while ((bytes = stream.read(buffer)) >= 0) {
+            out.write(buffer, 0, bytes);
+            if (out.size() > maxResourceSize) {
+                return null;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] contents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                contents.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(contents);
+        }
+        return out.toByteArray();
+    }
+}
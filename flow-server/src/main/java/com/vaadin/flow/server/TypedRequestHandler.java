@@ -0,0 +1,41 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import com.vaadin.flow.server.HandlerHelper.RequestType;
+
+/**
+ * A specialized RequestHandler which only handles requests of a single
+ * {@link RequestType}, or only requests without a request type.
+ * <p>
+ * {@link VaadinService} skips typed request handlers for requests of other
+ * types instead of invoking them in the handler chain. Request handlers which
+ * do not implement this interface are invoked for every request in their
+ * position of the chain.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public interface TypedRequestHandler extends RequestHandler {
+
+    /**
+     * Gets the type of requests this handler handles.
+     *
+     * @return the handled request type, or <code>null</code> if the handler
+     *         only handles requests without a request type
+     */
+    RequestType getRequestType();
+}
@@ -71,6 +71,14 @@ public class UnsupportedBrowserHandler extends SynchronizedRequestHandler {
             + "  </style>"
             + "</head>";
 
+    @Override
+    protected boolean canHandleRequest(VaadinRequest request) {
+        // A heartbeat response is never shown to the user, so there is no
+        // reason to make heartbeats wait for the session lock here
+        return !HandlerHelper.isRequestType(request,
+                HandlerHelper.RequestType.HEARTBEAT);
+    }
+
     @Override
     public boolean synchronizedHandleRequest(VaadinSession session,
                                              VaadinRequest request, VaadinResponse response) throws IOException {
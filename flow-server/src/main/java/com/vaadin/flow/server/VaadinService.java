@@ -31,7 +31,9 @@ import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -43,6 +45,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -175,6 +178,23 @@ public abstract class VaadinService implements Serializable {
 
     private Iterable<RequestHandler> requestHandlers;
 
+    /**
+     * The request handler chain for each request type, without the typed
+     * request handlers which do not handle that type.
+     */
+    private Map<RequestType, List<RequestHandler>> typedRequestHandlers;
+
+    /**
+     * The request handler chain for requests without a request type.
+     */
+    private List<RequestHandler> untypedRequestHandlers;
+
+    private Map<RequestHandler, RequestHandlerStatistics> requestHandlerStatistics;
+
+    private final Map<Class<?>, ClientMetrics> clientMetrics = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> droppedEvents = new ConcurrentHashMap<>();
+
     private Iterable<BootstrapListener> bootstrapListeners;
 
     private Iterable<DependencyFilter> dependencyFilters;
@@ -277,6 +297,7 @@ public abstract class VaadinService implements Serializable {
             Collections.reverse(handlers);
 
             requestHandlers = Collections.unmodifiableCollection(handlers);
+            createRequestDispatchTable();
 
             dependencyFilters = Stream
                     .concat(instantiator.getDependencyFilters(
@@ -832,6 +853,13 @@ public abstract class VaadinService implements Serializable {
         WrappedSession wrappedSession = getWrappedSession(request,
                 requestCanCreateSession);
 
+        if (HandlerHelper.isRequestType(request, RequestType.HEARTBEAT)) {
+            VaadinSession session = findSessionWithoutLock(wrappedSession);
+            if (session != null) {
+                return session;
+            }
+        }
+
         try {
             lockSession(wrappedSession);
         } catch (IllegalStateException e) {
@@ -847,6 +875,35 @@ public abstract class VaadinService implements Serializable {
 
     }
 
+    /**
+     * Reads the Vaadin session of a heartbeat request without locking the
+     * session, so that heartbeats do not wait for other requests holding the
+     * lock. Heartbeats never create, close or restart sessions.
+     *
+     * @param wrappedSession
+     *            the underlying HTTP session
+     * @return the session, or <code>null</code> if it must be looked up with
+     *         the session locked
+     * @throws SessionExpiredException
+     *             if the underlying session has been invalidated
+     */
+    private VaadinSession findSessionWithoutLock(WrappedSession wrappedSession)
+            throws SessionExpiredException {
+        try {
+            VaadinSession session = readFromHttpSession(wrappedSession);
+            // A session which has just been deserialized gets its transient
+            // fields refreshed in loadSession, which requires the lock
+            if (session != null && session.getService() == this
+                    && session.getLockInstance() == getSessionLock(
+                            wrappedSession)) {
+                return session;
+            }
+            return null;
+        } catch (IllegalStateException e) {
+            throw new SessionExpiredException();
+        }
+    }
+
     /**
      * Finds or creates a Vaadin session. Assumes necessary synchronization has
      * been done by the caller to ensure this is not called simultaneously by
@@ -1275,7 +1332,14 @@ public abstract class VaadinService implements Serializable {
      */
     void cleanupSession(VaadinSession session) {
         if (isSessionActive(session)) {
-            closeInactiveUIs(session);
+            // Inactivity is measured in heartbeat intervals, so there is no
+            // point in checking all UIs more often than once per interval
+            long sweepInterval = 1000L
+                    * getDeploymentConfiguration().getHeartbeatInterval();
+            if (session.startInactiveUIsSweep(System.currentTimeMillis(),
+                    sweepInterval)) {
+                closeInactiveUIs(session);
+            }
             removeClosedUIs(session);
         } else {
             if (session.getState() == VaadinSessionState.OPEN) {
@@ -1474,19 +1538,32 @@ public abstract class VaadinService implements Serializable {
             VaadinSession session) {
         if (session != null) {
             assert VaadinSession.getCurrent() == session;
-            session.lock();
-            try {
-                cleanupSession(session);
-                final long duration = (System.nanoTime() - (Long) request
-                        .getAttribute(REQUEST_START_TIME_ATTRIBUTE)) / 1000000;
-                session.setLastRequestDuration(duration);
-            } finally {
-                session.unlock();
+            if (lockForCleanup(request, session)) {
+                try {
+                    cleanupSession(session);
+                    final long duration = (System.nanoTime() - (Long) request
+                            .getAttribute(REQUEST_START_TIME_ATTRIBUTE))
+                            / 1000000;
+                    session.setLastRequestDuration(duration);
+                } finally {
+                    session.unlock();
+                }
             }
         }
         CurrentInstance.clearAll();
     }
 
+    private static boolean lockForCleanup(VaadinRequest request,
+            VaadinSession session) {
+        if (HandlerHelper.isRequestType(request, RequestType.HEARTBEAT)) {
+            // Heartbeats do not queue behind other requests: whoever holds
+            // the lock cleans up the session when its request ends
+            return session.getLockInstance().tryLock();
+        }
+        session.lock();
+        return true;
+    }
+
     /**
      * Returns the request handlers that are registered with this service. The
      * iteration order of the returned collection is the same as the order in
@@ -1499,6 +1576,125 @@ public abstract class VaadinService implements Serializable {
         return requestHandlers;
     }
 
+    /**
+     * Gets the request handlers to invoke for requests of the given type, in
+     * the order they are invoked.
+     *
+     * @param requestType
+     *            the request type or <code>null</code> for requests without
+     *            a request type
+     * @return the request handlers for the request type
+     */
+    List<RequestHandler> getRequestHandlers(RequestType requestType) {
+        return requestType == null ? untypedRequestHandlers
+                : typedRequestHandlers.get(requestType);
+    }
+
+    /**
+     * Gets the statistics of each request handler registered with this
+     * service, i.e. how many requests it has handled and how long handling
+     * them took.
+     *
+     * @return an unmodifiable map from request handler to its statistics
+     */
+    public Map<RequestHandler, RequestHandlerStatistics> getRequestHandlerStatistics() {
+        return Collections.unmodifiableMap(requestHandlerStatistics);
+    }
+
+    /**
+     * Gets the metrics periodically reported by the browsers, aggregated per
+     * navigation target. UIs that do not use routing are reported using the
+     * UI class.
+     *
+     * @return an unmodifiable map from navigation target to the metrics
+     *         reported while it was shown
+     */
+    public Map<Class<?>, ClientMetrics> getClientMetrics() {
+        return Collections.unmodifiableMap(clientMetrics);
+    }
+
+    /**
+     * Records metrics reported by a browser.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @param target
+     *            the navigation target which was shown, or the UI class if
+     *            routing is not used
+     * @param report
+     *            the metrics reported by the client, not <code>null</code>
+     */
+    public void recordClientMetrics(Class<?> target, JsonObject report) {
+        if (!ClientMetrics.isValidReport(report)) {
+            getLogger().debug("Ignoring invalid client metrics report {}",
+                    report.toJson());
+            return;
+        }
+        clientMetrics.computeIfAbsent(target, key -> new ClientMetrics())
+                .record(report);
+    }
+
+    /**
+     * Gets the number of DOM events that have been dropped because a client
+     * sent them faster than the debounce or throttle settings of the
+     * listeners allow.
+     *
+     * @return a map from event type to the number of dropped events of that
+     *         type
+     */
+    public Map<String, Long> getDroppedEventCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        droppedEvents.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Records that an event sent by a client has been dropped.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @param eventType
+     *            the type of the dropped event, not <code>null</code>
+     */
+    public void recordDroppedEvent(String eventType) {
+        droppedEvents.computeIfAbsent(eventType, key -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * Groups the request handlers by the request type they may handle so that
+     * {@link #handleRequest(VaadinRequest, VaadinResponse)} does not need to
+     * ask every handler. The table is built once from
+     * {@link #getRequestHandlers()} during {@link #init()}.
+     */
+    private void createRequestDispatchTable() {
+        typedRequestHandlers = new EnumMap<>(RequestType.class);
+        for (RequestType requestType : RequestType.values()) {
+            typedRequestHandlers.put(requestType,
+                    getRequestHandlersFor(requestType));
+        }
+        untypedRequestHandlers = getRequestHandlersFor(null);
+
+        requestHandlerStatistics = new IdentityHashMap<>();
+        for (RequestHandler handler : getRequestHandlers()) {
+            requestHandlerStatistics.put(handler,
+                    new RequestHandlerStatistics());
+        }
+    }
+
+    private List<RequestHandler> getRequestHandlersFor(
+            RequestType requestType) {
+        List<RequestHandler> handlers = new ArrayList<>();
+        for (RequestHandler handler : getRequestHandlers()) {
+            if (!(handler instanceof TypedRequestHandler)
+                    || ((TypedRequestHandler) handler)
+                            .getRequestType() == requestType) {
+                handlers.add(handler);
+            }
+        }
+        return Collections.unmodifiableList(handlers);
+    }
+
     /**
      * Gets the filters which all resource dependencies are passed through
      * before being sent to the client for loading.
@@ -1512,7 +1708,13 @@ public abstract class VaadinService implements Serializable {
 
     /**
      * Handles the incoming request and writes the response into the response
-     * object. Uses {@link #getRequestHandlers()} for handling the request.
+     * object.
+     * <p>
+     * The request is passed to the request handlers returned by
+     * {@link #getRequestHandlers()} when the service was initialized, in the
+     * same order. Only the handlers which may handle the type of the request
+     * are invoked. Overriding {@link #getRequestHandlers()} after
+     * {@link #init()} has no effect on how requests are dispatched.
      * <p>
      * If a session expiration is detected during request handling then each
      * {@link RequestHandler request handler} has an opportunity to handle the
@@ -1541,8 +1743,17 @@ public abstract class VaadinService implements Serializable {
                 return;
             }
 
-            for (RequestHandler handler : getRequestHandlers()) {
+            // Classify the request once and only invoke the handlers which
+            // may handle its type
+            RequestType requestType = HandlerHelper.getRequestType(request);
+            for (RequestHandler handler : getRequestHandlers(requestType)) {
+                long start = System.nanoTime();
                 if (handler.handleRequest(vaadinSession, request, response)) {
+                    RequestHandlerStatistics statistics = requestHandlerStatistics
+                            .get(handler);
+                    if (statistics != null) {
+                        statistics.recordHandled(System.nanoTime() - start);
+                    }
                     return;
                 }
             }
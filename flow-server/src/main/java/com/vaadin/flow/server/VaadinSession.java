@@ -22,7 +22,6 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Locale;
@@ -31,6 +30,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
@@ -95,7 +95,11 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
     private LinkedList<RequestHandler> requestHandlers = new LinkedList<>();
 
     private int nextUIId = 0;
-    private Map<Integer, UI> uIs = new HashMap<>();
+    /*
+     * Only modified while holding the session lock, but concurrent so that
+     * heartbeats can look up their UI without waiting for the lock.
+     */
+    private Map<Integer, UI> uIs = new ConcurrentHashMap<>();
 
     protected WebBrowser browser = new WebBrowser();
 
@@ -105,6 +109,8 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
 
     private long lastRequestTimestamp = System.currentTimeMillis();
 
+    private long lastInactiveUIsSweep = System.currentTimeMillis();
+
     private VaadinSessionState state = VaadinSessionState.OPEN;
 
     private transient WrappedSession session;
@@ -254,6 +260,26 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         return lastRequestTimestamp;
     }
 
+    /**
+     * Checks whether inactive UIs should be swept again and if so, marks the
+     * sweep as done at the given time.
+     *
+     * @param now
+     *            the current time in milliseconds since the epoch
+     * @param interval
+     *            the minimum time between sweeps in milliseconds
+     * @return <code>true</code> if a sweep is due, <code>false</code>
+     *         otherwise
+     */
+    boolean startInactiveUIsSweep(long now, long interval) {
+        checkHasLock();
+        if (now - lastInactiveUIsSweep < interval) {
+            return false;
+        }
+        lastInactiveUIsSweep = now;
+        return true;
+    }
+
     /**
      * Gets the underlying session to which this service session is currently
      * associated.
@@ -496,6 +522,22 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         return uIs.get(uiId);
     }
 
+    /**
+     * Finds a UI by its id without requiring the session lock.
+     * <p>
+     * The returned UI must not be accessed without locking the session. This
+     * is only intended for updating thread-safe state, such as the
+     * {@link com.vaadin.flow.component.internal.UIInternals#setLastHeartbeatTimestamp(long)
+     * heartbeat timestamp}, without queuing behind other requests.
+     *
+     * @param uiId
+     *            The UI id
+     * @return The UI with the given id or null if not found
+     */
+    public UI findUIWithoutLock(int uiId) {
+        return uIs.get(uiId);
+    }
+
     /**
      * Checks if the current thread has exclusive access to this
      * <code>VaadinSession</code>.
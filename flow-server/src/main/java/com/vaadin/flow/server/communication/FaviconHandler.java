@@ -19,7 +19,8 @@ import java.io.IOException;
 
 import javax.servlet.http.HttpServletResponse;
 
-import com.vaadin.flow.server.RequestHandler;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
+import com.vaadin.flow.server.TypedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinServletRequest;
@@ -34,7 +35,13 @@ import com.vaadin.flow.server.VaadinSession;
  * @author Vaadin Ltd
  * @since 1.0
  */
-public class FaviconHandler implements RequestHandler {
+public class FaviconHandler implements TypedRequestHandler {
+
+    @Override
+    public RequestType getRequestType() {
+        // Only serves paths, never typed framework requests
+        return null;
+    }
 
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
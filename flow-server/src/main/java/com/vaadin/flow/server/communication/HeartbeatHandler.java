@@ -26,6 +26,7 @@ import com.vaadin.flow.server.HandlerHelper;
 import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.SessionExpiredHandler;
 import com.vaadin.flow.server.SynchronizedRequestHandler;
+import com.vaadin.flow.server.TypedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinSession;
@@ -43,13 +44,45 @@ import com.vaadin.flow.shared.ApplicationConstants;
  * @since 1.0
  */
 public class HeartbeatHandler extends SynchronizedRequestHandler
-        implements SessionExpiredHandler {
+        implements SessionExpiredHandler, TypedRequestHandler {
+
+    @Override
+    public RequestType getRequestType() {
+        return RequestType.HEARTBEAT;
+    }
 
     @Override
     protected boolean canHandleRequest(VaadinRequest request) {
         return HandlerHelper.isRequestType(request, RequestType.HEARTBEAT);
     }
 
+    /**
+     * Handles a heartbeat request without locking the session if the UI has
+     * no heartbeat listeners, since only its timestamp needs to be updated.
+     * Otherwise, delegates to
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
+     * with the session locked.
+     */
+    @Override
+    public boolean handleRequest(VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        if (!canHandleRequest(request)) {
+            return false;
+        }
+
+        String uiId = request
+                .getParameter(ApplicationConstants.UI_ID_PARAMETER);
+        UI ui = uiId == null ? null
+                : session.findUIWithoutLock(Integer.parseInt(uiId));
+        if (ui != null && !ui.getInternals().hasHeartbeatListeners()) {
+            ui.getInternals()
+                    .setLastHeartbeatTimestamp(System.currentTimeMillis());
+            writeHeartbeatResponse(response);
+            return true;
+        }
+        return super.handleRequest(session, request, response);
+    }
+
     /**
      * Handles a heartbeat request for the given session. Reads the GET
      * parameter named {@link ApplicationConstants#UI_ID_PARAMETER} to identify
@@ -65,12 +98,7 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
         if (ui != null) {
             ui.getInternals()
                     .setLastHeartbeatTimestamp(System.currentTimeMillis());
-            // Ensure that the browser does not cache heartbeat responses.
-            // iOS 6 Safari requires this (#10370)
-            response.setHeader("Cache-Control", "no-cache");
-            // If Content-Type is not set, browsers assume text/html and may
-            // complain about the empty response body (#12182)
-            response.setHeader("Content-Type", "text/plain");
+            writeHeartbeatResponse(response);
         } else {
             response.sendError(HttpServletResponse.SC_NOT_FOUND,
                     "UI not found");
@@ -79,6 +107,15 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
         return true;
     }
 
+    private static void writeHeartbeatResponse(VaadinResponse response) {
+        // Ensure that the browser does not cache heartbeat responses.
+        // iOS 6 Safari requires this (#10370)
+        response.setHeader("Cache-Control", "no-cache");
+        // If Content-Type is not set, browsers assume text/html and may
+        // complain about the empty response body (#12182)
+        response.setHeader("Content-Type", "text/plain");
+    }
+
     /*
      * (non-Javadoc)
      *
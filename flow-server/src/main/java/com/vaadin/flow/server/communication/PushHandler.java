@@ -19,6 +19,7 @@ package com.vaadin.flow.server.communication;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.List;
 
 import org.atmosphere.cpr.AtmosphereRequest;
 import org.atmosphere.cpr.AtmosphereResource;
@@ -39,11 +40,13 @@ import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinServletService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
+import com.vaadin.flow.server.communication.ServerRpcHandler.MessageReplayRequiredException;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.communication.PushMode;
 
 import elemental.json.JsonException;
+import elemental.json.JsonObject;
 
 /**
  * Handles incoming push connections and messages and dispatches them to the
@@ -129,8 +132,11 @@ public class PushHandler {
         assert vaadinRequest != null;
 
         try {
-            new ServerRpcHandler().handleRpc(ui, reader, vaadinRequest);
+            createRpcHandler().handleRpc(ui, reader, vaadinRequest);
             connection.push(false);
+        } catch (MessageReplayRequiredException e) { // NOSONAR
+            // Send again the messages that the client did not receive
+            sendReplayedMessages(connection, e.getMessages());
         } catch (JsonException e) {
             getLogger().error("Error writing JSON to response", e);
             // Refresh on client side
@@ -155,6 +161,15 @@ public class PushHandler {
         this.service = service;
     }
 
+    /**
+     * Creates the ServerRpcHandler to use.
+     *
+     * @return the ServerRpcHandler to use
+     */
+    protected ServerRpcHandler createRpcHandler() {
+        return new ServerRpcHandler();
+    }
+
     /**
      * Suspends the given resource
      *
@@ -266,6 +281,21 @@ public class PushHandler {
         session.getErrorHandler().error(new ErrorEvent(e));
     }
 
+    private static void sendReplayedMessages(
+            AtmospherePushConnection connection, List<JsonObject> messages) {
+        if (!connection.isConnected()) {
+            getLogger().debug(
+                    "Push connection lost, {} message(s) cannot be replayed",
+                    messages.size());
+            return;
+        }
+        // Each push message is handled separately by the client, like the
+        // ones sent by AtmospherePushConnection.push
+        for (JsonObject message : messages) {
+            connection.sendMessage("for(;;);[" + message.toJson() + "]");
+        }
+    }
+
     private static AtmospherePushConnection getConnectionForUI(UI ui) {
         PushConnection pushConnection = ui.getInternals().getPushConnection();
         if (pushConnection instanceof AtmospherePushConnection) {
@@ -38,9 +38,9 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.HandlerHelper;
 import com.vaadin.flow.server.HandlerHelper.RequestType;
-import com.vaadin.flow.server.RequestHandler;
 import com.vaadin.flow.server.ServiceException;
 import com.vaadin.flow.server.SessionExpiredHandler;
+import com.vaadin.flow.server.TypedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinServletRequest;
@@ -59,7 +59,7 @@ import com.vaadin.flow.shared.communication.PushConstants;
  * @since 1.0
  */
 public class PushRequestHandler
-        implements RequestHandler, SessionExpiredHandler {
+        implements SessionExpiredHandler, TypedRequestHandler {
 
     private AtmosphereFramework atmosphere;
     private PushHandler pushHandler;
@@ -231,6 +231,11 @@ public class PushRequestHandler
         return atmosphere;
     }
 
+    @Override
+    public RequestType getRequestType() {
+        return RequestType.PUSH;
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.server.communication;
 
+import javax.servlet.http.HttpServletResponse;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -28,9 +30,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.server.BootstrapHandler;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.PwaIcon;
 import com.vaadin.flow.server.PwaRegistry;
 import com.vaadin.flow.server.RequestHandler;
+import com.vaadin.flow.server.TypedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinSession;
@@ -48,7 +52,7 @@ import com.vaadin.flow.server.VaadinSession;
  *
  * @since 1.2
  */
-public class PwaHandler implements RequestHandler {
+public class PwaHandler implements TypedRequestHandler {
     private final Map<String, RequestHandler> requestHandlerMap = new HashMap<>();
     private final PwaRegistry pwaRegistry;
 
@@ -82,6 +86,15 @@ public class PwaHandler implements RequestHandler {
                             response.setHeader("Cache-Control",
                                     "no-cache, must-revalidate");
                         }
+                        // Revalidation does not need the image to be
+                        // rendered or sent again
+                        String etag = "\"" + icon.getFileHash() + "\"";
+                        response.setHeader("ETag", etag);
+                        if (etag.equals(request.getHeader("If-None-Match"))) {
+                            response.setStatus(
+                                    HttpServletResponse.SC_NOT_MODIFIED);
+                            return true;
+                        }
                         try (OutputStream out = response.getOutputStream()) {
                             icon.write(out);
                         }
@@ -122,6 +135,12 @@ public class PwaHandler implements RequestHandler {
                 });
     }
 
+    @Override
+    public RequestType getRequestType() {
+        // Only serves paths, never typed framework requests
+        return null;
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
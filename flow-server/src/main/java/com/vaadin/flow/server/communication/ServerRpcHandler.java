@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,9 +34,11 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.component.HasElement;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.MessageDigestUtil;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
 import com.vaadin.flow.server.ErrorEvent;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
@@ -77,6 +80,7 @@ public class ServerRpcHandler implements Serializable {
         private final JsonObject json;
         private final boolean resynchronize;
         private final int clientToServerMessageId;
+        private final JsonObject clientMetrics;
 
         /**
          * Creates an instance based on the given JSON received through the
@@ -124,6 +128,12 @@ public class ServerRpcHandler implements Serializable {
                 clientToServerMessageId = -1;
             }
             invocations = json.getArray(ApplicationConstants.RPC_INVOCATIONS);
+            JsonValue metrics = json.get(ApplicationConstants.CLIENT_METRICS);
+            if (metrics instanceof JsonObject) {
+                clientMetrics = (JsonObject) metrics;
+            } else {
+                clientMetrics = null;
+            }
         }
 
         /**
@@ -173,6 +183,16 @@ public class ServerRpcHandler implements Serializable {
             return clientToServerMessageId;
         }
 
+        /**
+         * Gets the metrics the client has piggybacked on this request.
+         *
+         * @return the client metrics, or <code>null</code> if the request
+         *         contains no metrics
+         */
+        public JsonObject getClientMetrics() {
+            return clientMetrics;
+        }
+
         /**
          * Gets the entire request in JSON format, as it was received from the
          * client.
@@ -223,6 +243,38 @@ public class ServerRpcHandler implements Serializable {
         }
     }
 
+    /**
+     * Exception thrown when the client has not received some of the messages
+     * sent to it and the messages should be sent again instead of processing
+     * the request.
+     */
+    public static class MessageReplayRequiredException
+            extends RuntimeException {
+
+        private final List<JsonObject> messages;
+
+        /**
+         * Creates a new exception for the given messages.
+         *
+         * @param messages
+         *            the messages to send again, in the order they were
+         *            originally sent, not {@code null}
+         */
+        public MessageReplayRequiredException(List<JsonObject> messages) {
+            super();
+            this.messages = messages;
+        }
+
+        /**
+         * Gets the messages to send again.
+         *
+         * @return the messages in the order they were originally sent
+         */
+        public List<JsonObject> getMessages() {
+            return messages;
+        }
+    }
+
     /**
      * Reads JSON containing zero or more serialized RPC calls (including legacy
      * variable changes) and executes the calls.
@@ -287,6 +339,16 @@ public class ServerRpcHandler implements Serializable {
                  * situation is most likely triggered by a timeout or such
                  * causing a message to be resent.
                  */
+                Optional<List<JsonObject>> missedMessages = ui.getInternals()
+                        .getSentMessagesAfter(rpcRequest.getSyncId());
+                if (missedMessages.isPresent()
+                        && !missedMessages.get().isEmpty()) {
+                    getLogger().debug(
+                            "Replaying {} message(s) not received by the client",
+                            missedMessages.get().size());
+                    throw new MessageReplayRequiredException(
+                            missedMessages.get());
+                }
                 message = "Confirmed duplicate message from the client.";
             } else {
                 message = "Unexpected message id from the client.";
@@ -314,6 +376,7 @@ public class ServerRpcHandler implements Serializable {
             ui.getInternals().setLastProcessedClientToServerId(expectedId,
                     messageHash);
             handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+            recordClientMetrics(ui, rpcRequest.getClientMetrics());
         }
 
         if (rpcRequest.isResynchronize()) {
@@ -330,6 +393,17 @@ public class ServerRpcHandler implements Serializable {
         }
     }
 
+    private static void recordClientMetrics(UI ui, JsonObject metrics) {
+        if (metrics == null) {
+            return;
+        }
+        List<HasElement> chain = ui.getInternals()
+                .getActiveRouterTargetsChain();
+        Class<?> target = chain.isEmpty() ? ui.getClass()
+                : chain.get(0).getClass();
+        ui.getSession().getService().recordClientMetrics(target, metrics);
+    }
+
     /**
      * Gets {@link RpcInvocationHandler}s map where the key is the type of the
      * handler gotten via {@link RpcInvocationHandler#getRpcType()}.
@@ -360,6 +434,7 @@ public class ServerRpcHandler implements Serializable {
     private void handleInvocations(UI ui, JsonArray invocationsData) {
         List<JsonObject> data = new ArrayList<>(invocationsData.length());
         List<Runnable> pendingChangeEvents = new ArrayList<>();
+        Map<Object, JsonObject> mapSyncs = new LinkedHashMap<>();
 
         RpcInvocationHandler mapSyncHandler = getInvocationHandlers()
                 .get(JsonConstants.RPC_TYPE_MAP_SYNC);
@@ -369,18 +444,66 @@ public class ServerRpcHandler implements Serializable {
             String type = invocationJson.getString(JsonConstants.RPC_TYPE);
             assert type != null;
             if (JsonConstants.RPC_TYPE_MAP_SYNC.equals(type)) {
-                // Handle these before any RPC invocations.
-                mapSyncHandler.handle(ui, invocationJson)
-                        .ifPresent(pendingChangeEvents::add);
+                // Handle these before any RPC invocations. Only the last
+                // value of each property matters, so earlier syncs of the
+                // same property are dropped without firing change events.
+                Object key = getMapSyncKey(invocationJson);
+                mapSyncs.remove(key);
+                mapSyncs.put(key, invocationJson);
+            } else if (JsonConstants.RPC_TYPE_EVENT.equals(type)
+                    && !isEventAllowed(ui, invocationJson)) {
+                ui.getSession().getService().recordDroppedEvent(
+                        invocationJson.getString(JsonConstants.RPC_EVENT_TYPE));
             } else {
                 data.add(invocationJson);
             }
         }
 
+        for (JsonObject mapSync : mapSyncs.values()) {
+            mapSyncHandler.handle(ui, mapSync)
+                    .ifPresent(pendingChangeEvents::add);
+        }
+
         pendingChangeEvents.forEach(runnable -> runMapSyncTask(ui, runnable));
         data.forEach(json -> handleInvocationData(ui, json));
     }
 
+    private static Object getMapSyncKey(JsonObject invocationJson) {
+        if (!invocationJson.hasKey(JsonConstants.RPC_NODE)
+                || !invocationJson.hasKey(JsonConstants.RPC_FEATURE)
+                || !invocationJson.hasKey(JsonConstants.RPC_PROPERTY)) {
+            // Never coalesced, let the handler deal with it
+            return invocationJson;
+        }
+        return (int) invocationJson.getNumber(JsonConstants.RPC_NODE) + ":"
+                + (int) invocationJson.getNumber(JsonConstants.RPC_FEATURE)
+                + ":" + invocationJson.getString(JsonConstants.RPC_PROPERTY);
+    }
+
+    /**
+     * Checks the event against the rate limits derived from the debounce and
+     * throttle settings of its listeners, so that a client flooding the
+     * server with events does not get them all processed.
+     */
+    private static boolean isEventAllowed(UI ui, JsonObject invocationJson) {
+        if (!invocationJson.hasKey(JsonConstants.RPC_NODE)
+                || !invocationJson.hasKey(JsonConstants.RPC_EVENT_TYPE)) {
+            // Let the event handler deal with the malformed invocation
+            return true;
+        }
+        StateNode node = ui.getInternals().getStateTree().getNodeById(
+                (int) invocationJson.getNumber(JsonConstants.RPC_NODE));
+        if (node == null || !node.hasFeature(ElementListenerMap.class)) {
+            return true;
+        }
+        JsonValue eventData = invocationJson
+                .get(JsonConstants.RPC_EVENT_DATA);
+        return node.getFeature(ElementListenerMap.class).allowEvent(
+                invocationJson.getString(JsonConstants.RPC_EVENT_TYPE),
+                eventData instanceof JsonObject ? (JsonObject) eventData
+                        : null);
+    }
+
     private void runMapSyncTask(UI ui, Runnable runnable) {
         try {
             runnable.run();
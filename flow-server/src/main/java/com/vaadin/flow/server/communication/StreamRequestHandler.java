@@ -28,9 +28,10 @@ import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.server.AbstractStreamResource;
-import com.vaadin.flow.server.RequestHandler;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.StreamReceiver;
 import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.TypedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinSession;
@@ -42,7 +43,7 @@ import com.vaadin.flow.server.VaadinSession;
  * @author Vaadin Ltd
  * @since 1.0
  */
-public class StreamRequestHandler implements RequestHandler {
+public class StreamRequestHandler implements TypedRequestHandler {
 
     private static final char PATH_SEPARATOR = '/';
 
@@ -67,6 +68,12 @@ public class StreamRequestHandler implements RequestHandler {
         this.receiverHandler = receiverHandler;
     }
 
+    @Override
+    public RequestType getRequestType() {
+        // Only serves paths, never typed framework requests
+        return null;
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
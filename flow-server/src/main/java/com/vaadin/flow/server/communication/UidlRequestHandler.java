@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,11 +31,13 @@ import com.vaadin.flow.server.HandlerHelper;
 import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.SessionExpiredHandler;
 import com.vaadin.flow.server.SynchronizedRequestHandler;
+import com.vaadin.flow.server.TypedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
+import com.vaadin.flow.server.communication.ServerRpcHandler.MessageReplayRequiredException;
 import com.vaadin.flow.server.communication.ServerRpcHandler.ResynchronizationRequiredException;
 import com.vaadin.flow.shared.JsonConstants;
 
@@ -53,7 +57,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * @since 1.0
  */
 public class UidlRequestHandler extends SynchronizedRequestHandler
-        implements SessionExpiredHandler {
+        implements SessionExpiredHandler, TypedRequestHandler {
 
     private ServerRpcHandler rpcHandler;
 
@@ -62,6 +66,11 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         return HandlerHelper.isRequestType(request, RequestType.UIDL);
     }
 
+    @Override
+    public RequestType getRequestType() {
+        return RequestType.UIDL;
+    }
+
     /**
      * Creates the ServerRpcHandler to use.
      *
@@ -102,6 +111,9 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         } catch (ResynchronizationRequiredException e) { // NOSONAR
             // Resync on the client side
             writeUidl(uI, stringWriter, true);
+        } catch (MessageReplayRequiredException e) { // NOSONAR
+            // Send again the messages that the client did not receive
+            writeReplayedUidl(e.getMessages(), stringWriter);
         } finally {
             stringWriter.close();
         }
@@ -125,6 +137,14 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         writer.write(responseString);
     }
 
+    private static void writeReplayedUidl(List<JsonObject> messages,
+            Writer writer) throws IOException {
+        // The client handles each message in the array separately
+        String responseString = messages.stream().map(JsonObject::toJson)
+                .collect(Collectors.joining(",", "for(;;);[", "]"));
+        writer.write(responseString);
+    }
+
     private static final Logger getLogger() {
         return LoggerFactory.getLogger(UidlRequestHandler.class.getName());
     }
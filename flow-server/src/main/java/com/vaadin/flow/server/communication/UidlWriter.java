@@ -207,6 +207,8 @@ public class UidlWriter implements Serializable {
                 .isRequestTiming()) {
             response.put("timings", createPerformanceData(ui));
         }
+        uiInternals.addSentMessage(response, service
+                .getDeploymentConfiguration().getMessageReplayBufferSize());
         uiInternals.incrementServerId();
         return response;
     }
@@ -39,7 +39,9 @@ import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.server.BootstrapHandler;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.HandlerHelper;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.PwaRegistry;
+import com.vaadin.flow.server.TypedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinServletRequest;
@@ -61,7 +63,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * @author Vaadin Ltd.
  * @since 2.0
  */
-public class WebComponentBootstrapHandler extends BootstrapHandler {
+public class WebComponentBootstrapHandler extends BootstrapHandler
+        implements TypedRequestHandler {
     private static final String REQ_PARAM_URL = "url";
     private static final String PATH_PREFIX = "/web-component/web-component";
     private static final Pattern PATH_PATTERN = Pattern
@@ -114,6 +117,12 @@ public class WebComponentBootstrapHandler extends BootstrapHandler {
         super(pageBuilder);
     }
 
+    @Override
+    public RequestType getRequestType() {
+        // Only serves paths, never typed framework requests
+        return null;
+    }
+
     @Override
     protected boolean canHandleRequest(VaadinRequest request) {
         String pathInfo = request.getPathInfo();
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -276,6 +277,41 @@ public class JarContentsManager {
         }
     }
 
+    /**
+     * Finds the files matching the inclusion filters in the jar file, with
+     * paths relative to the given jar directory, i.e. the paths the files
+     * would get when copied with
+     * {@link #copyIncludedFilesFromJarTrimmingBasePath(File, String, File, String...)}.
+     *
+     * @param jar
+     *            jar file to look for files in, not {@code null}
+     * @param jarDirectoryToCopyFrom
+     *            a path relative to jar root, only files from this path are
+     *            included, can be {@code null}, which is treated as a root of
+     *            the jar
+     * @param wildcardPathInclusions
+     *            wildcard inclusions that are used to check each path against
+     * @return the paths of the matching files relative to the jar directory
+     * @throws UncheckedIOException
+     *             if {@link IOException} occurs during jar file search
+     */
+    List<String> findIncludedFilesTrimmingBasePath(File jar,
+            String jarDirectoryToCopyFrom, String... wildcardPathInclusions) {
+        requireFileExistence(jar);
+        String basePath = normalizeJarBasePath(jarDirectoryToCopyFrom);
+
+        try (JarFile jarFile = new JarFile(jar, false)) {
+            return jarFile.stream().filter(file -> !file.isDirectory())
+                    .filter(file -> file.getName().toLowerCase(Locale.ENGLISH)
+                            .startsWith(basePath.toLowerCase(Locale.ENGLISH)))
+                    .filter(file -> includeFile(file, wildcardPathInclusions))
+                    .map(file -> trimBasePath(file.getName(), basePath))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private String normalizeJarBasePath(String rawPath) {
         if (rawPath == null || rawPath.isEmpty()) {
             return "";
@@ -297,26 +333,27 @@ public class JarContentsManager {
                 .wildcardMatch(filePath, inclusionRule));
     }
 
+    private static String trimBasePath(String fullPath, String basePath) {
+        return fullPath.substring(fullPath.toLowerCase(Locale.ENGLISH)
+                .indexOf(basePath.toLowerCase(Locale.ENGLISH))
+                + basePath.length());
+    }
+
     private void copyJarEntryTrimmingBasePath(JarFile jarFile,
             ZipEntry jarEntry, String basePath, File outputDirectory) {
-        String fullPath = jarEntry.getName();
-        String relativePath = fullPath
-                .substring(fullPath.toLowerCase(Locale.ENGLISH)
-                        .indexOf(basePath.toLowerCase(Locale.ENGLISH))
-                        + basePath.length());
+        String relativePath = trimBasePath(jarEntry.getName(), basePath);
         File target = new File(outputDirectory, relativePath);
-        try {
+        try (InputStream stream = jarFile.getInputStream(jarEntry)) {
             if (target.exists()) {
-                File tempFile = File.createTempFile(fullPath, null);
-                FileUtils.copyInputStreamToFile(
-                        jarFile.getInputStream(jarEntry), tempFile);
-                if (!FileUtils.contentEquals(tempFile, target)) {
-                    FileUtils.forceDelete(target);
-                    FileUtils.moveFile(tempFile, target);
+                // Rewrite only when the contents differ so that file watchers
+                // are not triggered for unchanged resources
+                byte[] contents = IOUtils.toByteArray(stream);
+                if (target.length() != contents.length || !Arrays.equals(
+                        contents, FileUtils.readFileToByteArray(target))) {
+                    FileUtils.writeByteArrayToFile(target, contents);
                 }
             } else {
-                FileUtils.copyInputStreamToFile(
-                        jarFile.getInputStream(jarEntry), target);
+                FileUtils.copyInputStreamToFile(stream, target);
             }
         } catch (IOException e) {
             throw new UncheckedIOException(String.format(
@@ -16,20 +16,42 @@
 package com.vaadin.flow.server.frontend;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+
 import static com.vaadin.flow.server.Constants.COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT;
 import static com.vaadin.flow.server.Constants.RESOURCES_FRONTEND_DEFAULT;
 import static com.vaadin.flow.server.frontend.FrontendUtils.FLOW_NPM_PACKAGE_NAME;
 import static com.vaadin.flow.server.frontend.FrontendUtils.NODE_MODULES;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Copies JavaScript and CSS files from JAR files into a given folder.
+ * <p>
+ * The size and modification time of every extracted jar, together with the
+ * files it provides, are recorded next to the target folder. A jar which has
+ * not changed since the previous run is not extracted again as long as the
+ * target folder is still there and no other location provides any of the
+ * same files. Files provided by jars which are no longer scanned are removed
+ * from the target folder.
  *
  * @since 2.0
  */
@@ -37,7 +59,12 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
     private static final String[] WILDCARD_INCLUSIONS = new String[] {
             "**/*.js", "**/*.css" };
 
+    static final String JAR_FINGERPRINTS_FILE = ".flow-frontend-jars.json";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String FILES = "files";
+
     private File targetDirectory;
+    private File fingerprintsFile;
     private Set<File> resourceLocations = null;
 
     /**
@@ -55,6 +82,8 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
                 "Parameter 'jarFilesToScan' must not be null");
         this.targetDirectory = new File(npmFolder,
                 NODE_MODULES + FLOW_NPM_PACKAGE_NAME);
+        this.fingerprintsFile = new File(npmFolder,
+                NODE_MODULES + JAR_FINGERPRINTS_FILE);
         resourceLocations = resourcesToScan.stream().filter(File::exists)
                 .collect(Collectors.toSet());
     }
@@ -63,8 +92,51 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
     public void execute() {
         long start = System.nanoTime();
         log().info("Copying frontend resources from jar files ...");
+        // Fingerprints are only trusted when the extracted files are still
+        // around
+        JsonObject previousFingerprints = targetDirectory.isDirectory()
+                ? readFingerprints()
+                : Json.createObject();
+        // The fingerprints are written after extracting, so extracted files
+        // modified later have been edited
+        long extractedAt = fingerprintsFile.lastModified();
+        JsonObject fingerprints = Json.createObject();
+
         TaskCopyLocalFrontendFiles.createTargetFolder(targetDirectory);
         JarContentsManager jarContentsManager = new JarContentsManager();
+
+        // The paths each location writes to in the target folder
+        Map<File, List<String>> locationFiles = new HashMap<>();
+        Set<File> unchangedJars = new HashSet<>();
+        for (File location : resourceLocations) {
+            if (location.isDirectory()) {
+                locationFiles.put(location, listLocalFiles(location));
+                continue;
+            }
+            String key = location.getAbsolutePath();
+            String fingerprint = getFingerprint(location);
+            List<String> files = getRecordedFiles(previousFingerprints, key,
+                    fingerprint);
+            if (files != null && isExtracted(files, extractedAt)) {
+                unchangedJars.add(location);
+            } else {
+                files = listJarFiles(jarContentsManager, location);
+            }
+            locationFiles.put(location, files);
+            fingerprints.put(key, createRecord(fingerprint, files));
+        }
+
+        // Which location wins for a file written by several locations depends
+        // on the order they are copied in, so skipping is only safe when each
+        // file has a single source
+        if (!unchangedJars.isEmpty() && hasSharedFiles(locationFiles)) {
+            log().debug("Some frontend files are provided by several "
+                    + "locations, extracting all jars");
+            unchangedJars.clear();
+        }
+
+        removeObsoleteFiles(previousFingerprints, locationFiles);
+
         for (File location : resourceLocations) {
             if (location.isDirectory()) {
                 TaskCopyLocalFrontendFiles.copyLocalResources(
@@ -74,7 +146,7 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
                         new File(location,
                                 COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT),
                         targetDirectory);
-            } else {
+            } else if (!unchangedJars.contains(location)) {
                 jarContentsManager.copyIncludedFilesFromJarTrimmingBasePath(
                         location, RESOURCES_FRONTEND_DEFAULT, targetDirectory,
                         WILDCARD_INCLUSIONS);
@@ -83,9 +155,139 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
                         targetDirectory, WILDCARD_INCLUSIONS);
             }
         }
+        writeFingerprints(fingerprints);
         long ms = (System.nanoTime() - start) / 1000000;
-        log().info("Visited {} resources. Took {} ms.",
-                resourceLocations.size(), ms);
+        log().info("Visited {} resources, {} unchanged jars skipped. Took {} ms.",
+                resourceLocations.size(), unchangedJars.size(), ms);
+    }
+
+    private static String getFingerprint(File jar) {
+        return jar.length() + ":" + jar.lastModified();
+    }
+
+    private static List<String> getRecordedFiles(JsonObject fingerprints,
+            String key, String fingerprint) {
+        if (!fingerprints.hasKey(key)
+                || fingerprints.get(key).getType() != JsonType.OBJECT) {
+            return null;
+        }
+        JsonObject record = fingerprints.getObject(key);
+        if (!record.hasKey(FINGERPRINT) || !record.hasKey(FILES)
+                || !fingerprint.equals(record.getString(FINGERPRINT))) {
+            return null;
+        }
+        JsonArray files = record.getArray(FILES);
+        List<String> paths = new ArrayList<>(files.length());
+        for (int i = 0; i < files.length(); i++) {
+            paths.add(files.getString(i));
+        }
+        return paths;
+    }
+
+    private boolean isExtracted(List<String> files, long extractedAt) {
+        for (String path : files) {
+            File file = new File(targetDirectory, path);
+            if (!file.isFile() || file.lastModified() > extractedAt) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static JsonObject createRecord(String fingerprint,
+            List<String> files) {
+        JsonArray paths = Json.createArray();
+        for (String file : files) {
+            paths.set(paths.length(), file);
+        }
+        JsonObject record = Json.createObject();
+        record.put(FINGERPRINT, fingerprint);
+        record.put(FILES, paths);
+        return record;
+    }
+
+    private static List<String> listJarFiles(
+            JarContentsManager jarContentsManager, File jar) {
+        List<String> files = new ArrayList<>(
+                jarContentsManager.findIncludedFilesTrimmingBasePath(jar,
+                        RESOURCES_FRONTEND_DEFAULT, WILDCARD_INCLUSIONS));
+        files.addAll(jarContentsManager.findIncludedFilesTrimmingBasePath(jar,
+                COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT, WILDCARD_INCLUSIONS));
+        return files;
+    }
+
+    private static List<String> listLocalFiles(File location) {
+        List<String> files = new ArrayList<>();
+        for (String folder : new String[] { RESOURCES_FRONTEND_DEFAULT,
+                COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT }) {
+            File source = new File(location, folder);
+            if (source.isDirectory()) {
+                Path sourcePath = source.toPath();
+                FileUtils.listFiles(source, null, true)
+                        .forEach(file -> files.add(sourcePath
+                                .relativize(file.toPath()).toString()
+                                .replace(File.separatorChar, '/')));
+            }
+        }
+        return files;
+    }
+
+    private static boolean hasSharedFiles(
+            Map<File, List<String>> locationFiles) {
+        Set<String> seen = new HashSet<>();
+        for (List<String> files : locationFiles.values()) {
+            // A location may write the same file from both of its folders
+            for (String file : new HashSet<>(files)) {
+                if (!seen.add(file)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void removeObsoleteFiles(JsonObject previousFingerprints,
+            Map<File, List<String>> locationFiles) {
+        Set<String> currentFiles = new HashSet<>();
+        locationFiles.values().forEach(currentFiles::addAll);
+        for (String key : previousFingerprints.keys()) {
+            if (previousFingerprints.get(key).getType() != JsonType.OBJECT
+                    || !previousFingerprints.getObject(key).hasKey(FILES)) {
+                continue;
+            }
+            JsonArray files = previousFingerprints.getObject(key)
+                    .getArray(FILES);
+            for (int i = 0; i < files.length(); i++) {
+                String file = files.getString(i);
+                // Files of removed jars and files no longer in a changed jar
+                if (!currentFiles.contains(file)) {
+                    FileUtils.deleteQuietly(new File(targetDirectory, file));
+                }
+            }
+        }
+    }
+
+    private JsonObject readFingerprints() {
+        try {
+            JsonObject fingerprints = NodeUpdater
+                    .getJsonFileContent(fingerprintsFile);
+            return fingerprints == null ? Json.createObject() : fingerprints;
+        } catch (IOException | RuntimeException e) {
+            log().debug("Ignoring unreadable jar fingerprints file '{}'",
+                    fingerprintsFile, e);
+            return Json.createObject();
+        }
+    }
+
+    private void writeFingerprints(JsonObject fingerprints) {
+        try {
+            FileUtils.writeStringToFile(fingerprintsFile,
+                    fingerprints.toJson(), UTF_8.name());
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format(
+                    "Failed to write jar fingerprints to '%s'",
+                    fingerprintsFile), e);
+        }
     }
 
     private static Logger log() {
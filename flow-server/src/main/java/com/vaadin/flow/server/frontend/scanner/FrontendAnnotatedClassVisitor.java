@@ -16,6 +16,7 @@
 package com.vaadin.flow.server.frontend.scanner;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -69,11 +70,11 @@ final class FrontendAnnotatedClassVisitor extends ClassVisitor {
         if (name == null) {
             return;
         }
-        try {
-            ClassReader cr;
-            URL url = finder.getResource(name.replace(".", "/") + ".class");
-            cr = new ClassReader(url.openStream());
-            cr.accept(this, 0);
+        URL url = finder.getResource(name.replace(".", "/") + ".class");
+        try (InputStream stream = url.openStream()) {
+            // Only class level annotations and the super class are needed
+            new ClassReader(stream).accept(this, ClassReader.SKIP_CODE
+                    | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -18,6 +18,7 @@ package com.vaadin.flow.server.frontend.scanner;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import net.bytebuddy.jar.asm.AnnotationVisitor;
 import net.bytebuddy.jar.asm.ClassVisitor;
@@ -49,6 +50,12 @@ final class FrontendClassVisitor extends ClassVisitor {
     static final String INCLUDE = "include";
     static final String THEME_FOR = "themeFor";
 
+    // This regular expression is able to split the signature and remove
+    // primitive and other mark symbols, see test for more info. Compiled once
+    // since it is applied to every descriptor of every visited class.
+    private static final Pattern SIGNATURE_SPLITTER = Pattern.compile(
+            "(^\\([\\[ZBFDJICL]*|^[\\[ZBFDJICL]+|;?\\)[\\[ZBFDJICLV]*|;[\\[ZBFDJICL]*)");
+
     private final String className;
     private final EndPointData endPoint;
     private final MethodVisitor methodVisitor;
@@ -305,10 +312,8 @@ final class FrontendClassVisitor extends ClassVisitor {
         if (signature == null || signature.isEmpty()) {
             return;
         }
-        // This regular expression is able to split the signature and remove
-        // primitive and other mark symbols, see test for more info.
-        String[] tmp = signature.replace("/", ".").split(
-                "(^\\([\\[ZBFDJICL]*|^[\\[ZBFDJICL]+|;?\\)[\\[ZBFDJICLV]*|;[\\[ZBFDJICL]*)");
+        String[] tmp = SIGNATURE_SPLITTER
+                .split(signature.replace('/', '.'));
         classes.addAll(Arrays.asList(tmp));
     }
 }
@@ -16,6 +16,7 @@
 package com.vaadin.flow.server.frontend.scanner;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.net.URL;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import net.bytebuddy.jar.asm.ClassReader;
@@ -57,6 +59,19 @@ import static com.vaadin.flow.server.frontend.scanner.FrontendClassVisitor.VERSI
  */
 public class FrontendDependencies extends AbstractDependenciesScanner {
 
+    // We should visit only those classes that might have NpmPackage,
+    // JsImport, JavaScript and HtmlImport annotations, basically
+    // HasElement, and AbstractTheme classes, but that prevents the usage of
+    // factories. This is the reason of having just a blacklist of some
+    // common name-spaces that would not have components.
+    private static final Pattern NOT_VISITABLE = Pattern.compile( // @formatter:off
+            "(^$|"
+            + ".*(slf4j).*|"
+            // #5803
+            + "^(java|sun|elemental|javax|org.(apache|atmosphere|jsoup|jboss|w3c|spring|joda|hibernate|glassfish|hsqldb)|com.(helger|spring|gwt|lowagie|fasterxml)|net.(sf|bytebuddy)).*|"
+            + ".*(Exception)$"
+            + ")"); // @formatter:on
+
     private final HashMap<String, EndPointData> endPoints = new HashMap<>();
     private ThemeDefinition themeDefinition;
     private AbstractTheme themeInstance;
@@ -464,8 +479,12 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
 
         FrontendClassVisitor visitor = new FrontendClassVisitor(className,
                 endPoint, themeScope);
-        ClassReader cr = new ClassReader(url.openStream());
-        cr.accept(visitor, ClassReader.EXPAND_FRAMES);
+        try (InputStream stream = url.openStream()) {
+            // Neither stack map frames nor debug info (local variables, line
+            // numbers) are inspected by the visitor, so skip parsing them
+            new ClassReader(stream).accept(visitor,
+                    ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG);
+        }
 
         // all classes visited by the scanner, used for performance (#5933)
         visited.add(className);
@@ -484,19 +503,8 @@ public class FrontendDependencies extends AbstractDependenciesScanner {
     }
 
     private boolean isVisitable(String className) {
-        // We should visit only those classes that might have NpmPackage,
-        // JsImport, JavaScript and HtmlImport annotations, basically
-        // HasElement, and AbstractTheme classes, but that prevents the usage of
-        // factories. This is the reason of having just a blacklist of some
-        // common name-spaces that would not have components.
-        return className != null && // @formatter:off
-                !className.matches(
-                    "(^$|"
-                    + ".*(slf4j).*|"
-                    // #5803
-                    + "^(java|sun|elemental|javax|org.(apache|atmosphere|jsoup|jboss|w3c|spring|joda|hibernate|glassfish|hsqldb)|com.(helger|spring|gwt|lowagie|fasterxml)|net.(sf|bytebuddy)).*|"
-                    + ".*(Exception)$"
-                    + ")"); // @formatter:on
+        return className != null
+                && !NOT_VISITABLE.matcher(className).matches();
     }
 
     private URL getUrl(String className) {
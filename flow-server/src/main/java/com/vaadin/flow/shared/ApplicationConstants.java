@@ -127,6 +127,39 @@ public class ApplicationConstants implements Serializable {
      */
     public static final String RESYNCHRONIZE_ID = "resynchronize";
 
+    /**
+     * The name of the parameter used to piggyback aggregated client side
+     * metrics on a client to server message.
+     */
+    public static final String CLIENT_METRICS = "metrics";
+
+    /**
+     * Client metrics key for the number of handled server messages.
+     */
+    public static final String CLIENT_METRICS_MESSAGES = "messages";
+
+    /**
+     * Client metrics key for the total time in milliseconds spent processing
+     * server messages.
+     */
+    public static final String CLIENT_METRICS_PROCESSING_TIME = "processingTime";
+
+    /**
+     * Client metrics key for the number of completed round trips.
+     */
+    public static final String CLIENT_METRICS_ROUND_TRIPS = "roundTrips";
+
+    /**
+     * Client metrics key for the total round trip time in milliseconds.
+     */
+    public static final String CLIENT_METRICS_ROUND_TRIP_TIME = "roundTripTime";
+
+    /**
+     * Client metrics key for the number of resynchronizations requested by the
+     * client.
+     */
+    public static final String CLIENT_METRICS_RESYNCHRONIZATIONS = "resynchronizations";
+
     /**
      * Content type to use for text/html responses (should always be UTF-8).
      */
@@ -20,12 +20,15 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -77,9 +80,57 @@ public class BeanModelType<T> implements ComplexModelType<T> {
         }
     }
 
+    /**
+     * A bean property which can be imported into the model, resolved once per
+     * bean class.
+     */
+    private static final class PropertyImporter {
+        private final String propertyName;
+        private final Method getter;
+        private final ModelType propertyType;
+        // Not null if the getter type is not accepted by the property type
+        private final String typeMismatch;
+
+        private PropertyImporter(String propertyName, Method getter,
+                ModelType propertyType) {
+            this.propertyName = propertyName;
+            this.getter = getter;
+            this.propertyType = propertyType;
+
+            Type getterType = getter.getGenericReturnType();
+            if (propertyType.accepts(getterType)) {
+                typeMismatch = null;
+            } else {
+                typeMismatch = String.format(
+                        "Expected type '%s' for property '%s' but imported type is '%s'",
+                        propertyType.getJavaType().getTypeName(), propertyName,
+                        getterType.getTypeName());
+            }
+        }
+
+        private Object read(Object bean) {
+            if (typeMismatch != null) {
+                throw new IllegalArgumentException(typeMismatch);
+            }
+            try {
+                return getter.invoke(bean);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Cannot access bean property " + propertyName, e);
+            }
+        }
+    }
+
+    // Marks a value which is not imported because of the property filter
+    private static final Object SKIPPED = new Object();
+
     private final HashMap<String, BeanModelTypeProperty> properties;
     private final Class<T> proxyType;
 
+    // Resolved lazily, methods are not serializable
+    private transient Map<Class<?>, List<PropertyImporter>> propertyImporters;
+    private transient Map<Method, TemplateModelProxyHandler.ModelAccessor> modelAccessors;
+
     private static final ReflectionCache<Object, Map<String, Method>> beanPropertyCache = new ReflectionCache<>(
             BeanModelType::findBeanGetters);
 
@@ -420,44 +471,71 @@ public class BeanModelType<T> implements ComplexModelType<T> {
         Class<?> beanClass = bean.getClass();
         assert isBean(beanClass);
 
+        List<PropertyImporter> importers = getPropertyImporters(beanClass);
+
         /*
          * Collect all values and let getters throw before starting to populate
          * the model.
-         *
-         * Can't use Collectors.toMap() since it disallows null values.
          */
-        Map<String, Object> values = new HashMap<>();
-
-        beanPropertyCache.get(beanClass).forEach((propertyName, getter) -> {
-            if (!hasProperty(propertyName)
-                    || !propertyFilter.test(propertyName)) {
-                return;
+        Object[] values = new Object[importers.size()];
+        for (int i = 0; i < values.length; i++) {
+            PropertyImporter importer = importers.get(i);
+            if (propertyFilter.test(importer.propertyName)) {
+                values[i] = importer.read(bean);
+            } else {
+                values[i] = SKIPPED;
             }
+        }
 
-            Type getterType = getter.getGenericReturnType();
-            ModelType propertyType = getPropertyType(propertyName);
-            if (!propertyType.accepts(getterType)) {
-                throw new IllegalArgumentException(String.format(
-                        "Expected type '%s' for property '%s' but imported type is '%s'",
-                        propertyType.getJavaType().getTypeName(), propertyName,
-                        getterType.getTypeName()));
+        // Populate the model with the extracted values
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != SKIPPED) {
+                PropertyImporter importer = importers.get(i);
+                model.setProperty(importer.propertyName,
+                        importer.propertyType.applicationToModel(values[i],
+                                new PropertyFilter(propertyFilter,
+                                        importer.propertyName)));
             }
+        }
+    }
 
-            try {
-                Object value = getter.invoke(bean);
-                values.put(propertyName, value);
-            } catch (Exception e) {
-                throw new IllegalArgumentException(
-                        "Cannot access bean property " + propertyName, e);
-            }
+    private List<PropertyImporter> getPropertyImporters(Class<?> beanClass) {
+        Map<Class<?>, List<PropertyImporter>> importers = propertyImporters;
+        if (importers == null) {
+            importers = new ConcurrentHashMap<>();
+            propertyImporters = importers;
+        }
+        return importers.computeIfAbsent(beanClass, type -> {
+            List<PropertyImporter> list = new ArrayList<>();
+            beanPropertyCache.get(type).forEach((propertyName, getter) -> {
+                if (hasProperty(propertyName)) {
+                    list.add(new PropertyImporter(propertyName, getter,
+                            getPropertyType(propertyName)));
+                }
+            });
+            return list;
         });
+    }
 
-        // Populate the model with the extracted values
-        values.forEach((name, value) -> {
-            ModelType type = getPropertyType(name);
-            model.setProperty(name, type.applicationToModel(value,
-                    new PropertyFilter(propertyFilter, name)));
-        });
+    /**
+     * Gets the accessor a proxy uses for the given method, creating it on
+     * first use.
+     *
+     * @param method
+     *            the invoked proxy method
+     * @param factory
+     *            the function creating the accessor, may throw if the method
+     *            is not supported
+     * @return the accessor for the method, not <code>null</code>
+     */
+    TemplateModelProxyHandler.ModelAccessor getModelAccessor(Method method,
+            Function<Method, TemplateModelProxyHandler.ModelAccessor> factory) {
+        Map<Method, TemplateModelProxyHandler.ModelAccessor> accessors = modelAccessors;
+        if (accessors == null) {
+            accessors = new ConcurrentHashMap<>();
+            modelAccessors = accessors;
+        }
+        return accessors.computeIfAbsent(method, factory);
     }
 
     /**
@@ -114,6 +114,31 @@ public class TemplateModelProxyHandler implements Serializable {
         }
     }
 
+    /**
+     * A getter or setter of a model type, resolved once per model type and
+     * method so that invocations go directly to the model map.
+     */
+    static final class ModelAccessor {
+        private final String propertyName;
+        private final ModelType propertyType;
+        private final boolean getter;
+
+        private ModelAccessor(String propertyName, ModelType propertyType,
+                boolean getter) {
+            this.propertyName = propertyName;
+            this.propertyType = propertyType;
+            this.getter = getter;
+        }
+
+        private Object invoke(ElementPropertyMap modelMap, Object[] args) {
+            if (getter) {
+                return handleGetter(modelMap, propertyName, propertyType);
+            }
+            handleSetter(modelMap, propertyName, propertyType, args[0]);
+            return null;
+        }
+    }
+
     private static final ReflectionCache<Object, BiFunction<StateNode, BeanModelType<?>, Object>> proxyConstructors = new ReflectionCache<>(
             TemplateModelProxyHandler::createProxyConstructor);
 
@@ -144,10 +169,20 @@ public class TemplateModelProxyHandler implements Serializable {
     @SuppressWarnings("static-method")
     public Object intercept(@This Object target, @Origin Method method,
             @AllArguments Object[] args) {
-        String propertyName = ReflectTools.getPropertyName(method);
-
         BeanModelType<?> modelType = getModelTypeForProxy(target);
 
+        ModelAccessor accessor = modelType.getModelAccessor(method,
+                key -> createAccessor(modelType, key, args));
+
+        return accessor.invoke(
+                ElementPropertyMap.getModel(getStateNodeForProxy(target)),
+                args);
+    }
+
+    private static ModelAccessor createAccessor(BeanModelType<?> modelType,
+            Method method, Object[] args) {
+        String propertyName = ReflectTools.getPropertyName(method);
+
         if (!modelType.hasProperty(propertyName)) {
             throw new InvalidTemplateModelException(
                     modelType.getProxyType().getName()
@@ -156,15 +191,11 @@ public class TemplateModelProxyHandler implements Serializable {
         }
 
         ModelType propertyType = modelType.getPropertyType(propertyName);
-        ElementPropertyMap modelMap = ElementPropertyMap
-                .getModel(getStateNodeForProxy(target));
 
         if (ReflectTools.isGetter(method)) {
-            return handleGetter(modelMap, propertyName, propertyType);
+            return new ModelAccessor(propertyName, propertyType, true);
         } else if (ReflectTools.isSetter(method)) {
-            Object value = args[0];
-            handleSetter(modelMap, propertyName, propertyType, value);
-            return null;
+            return new ModelAccessor(propertyName, propertyType, false);
         }
 
         throw new InvalidTemplateModelException(
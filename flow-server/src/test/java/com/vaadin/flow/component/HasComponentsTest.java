@@ -15,6 +15,9 @@
  */
 package com.vaadin.flow.component;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -35,6 +38,20 @@ public class HasComponentsTest {
         Assert.assertEquals(text, component.getElement().getText());
     }
 
+    @Test
+    public void addCollectionOfSubtype_componentsAddedInOrder() {
+        TestComponent component = createTestStructure();
+        List<TestComponent> children = Arrays.asList(new TestComponent(),
+                new TestComponent());
+        component.add(children);
+
+        checkChildren(5, component);
+        Assert.assertEquals(component.getElement(),
+                children.get(0).getElement().getParent());
+        Assert.assertEquals(children.get(1).getElement(),
+                component.getElement().getChild(4));
+    }
+
     @Test
     public void insertComponentAtFirst() {
         TestComponent component = createTestStructure();
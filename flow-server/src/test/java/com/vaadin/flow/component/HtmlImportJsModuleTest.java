@@ -18,6 +18,7 @@
 package com.vaadin.flow.component;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.Assert;
@@ -36,10 +37,12 @@ import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.router.Location;
 import com.vaadin.flow.server.VaadinContext;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.ui.LoadMode;
+import com.vaadin.flow.theme.NoTheme;
 
 public class HtmlImportJsModuleTest {
 
@@ -130,6 +133,40 @@ public class HtmlImportJsModuleTest {
 
     }
 
+    @Test
+    public void addComponentDependencies_sameClassTwice_dependenciesAddedOnce() {
+        Mockito.when(configuration.isCompatibilityMode()).thenReturn(true);
+
+        UIInternals uiInternals = new UIInternals(ui);
+        uiInternals.setSession(session);
+
+        uiInternals.addComponentDependencies(HtmlImportComponent.class);
+        uiInternals.addComponentDependencies(HtmlImportComponent.class);
+
+        Mockito.verify(page, Mockito.times(1)).addHtmlImport(
+                Mockito.anyString(), Mockito.any(LoadMode.class));
+    }
+
+    @Test
+    public void showRouteTarget_noThemeTwice_dependenciesNotAddedAgain() {
+        Mockito.when(configuration.isCompatibilityMode()).thenReturn(true);
+        Mockito.when(ui.getThemeFor(Mockito.any(), Mockito.anyString()))
+                .thenReturn(Optional.empty());
+
+        UIInternals uiInternals = new UIInternals(ui);
+        uiInternals.setSession(session);
+
+        uiInternals.addComponentDependencies(HtmlImportComponent.class);
+        uiInternals.showRouteTarget(new Location("foo"), "foo",
+                new NoThemeTarget(), null);
+        uiInternals.showRouteTarget(new Location("bar"), "bar",
+                new NoThemeTarget(), null);
+        uiInternals.addComponentDependencies(HtmlImportComponent.class);
+
+        Mockito.verify(page, Mockito.times(1)).addHtmlImport(
+                Mockito.anyString(), Mockito.any(LoadMode.class));
+    }
+
     private void assertComponentImport(Class componentClass, String importValue,
             LoadMode importLoadMode, boolean isBowerMode) {
 
@@ -164,6 +201,12 @@ public class HtmlImportJsModuleTest {
 
     }
 
+    @Tag(Tag.DIV)
+    @NoTheme
+    private class NoThemeTarget extends Component {
+
+    }
+
     @HtmlImport(value = "frontend://bower_components/vaadin-ordered-layout/src/vaadin-vertical-layout.html", loadMode = LoadMode.EAGER)
     @JsModule(value = "/node_modules/@vaadin/vaadin-ordered-layout/src/vaadin-vertical-layout.js", loadMode = LoadMode.INLINE)
     private class HtmlImportJsModuleComponent extends Component {
@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -15,12 +16,19 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
 import com.vaadin.flow.di.DefaultInstantiator;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.AbstractTheme;
 import com.vaadin.tests.util.AlwaysLockedVaadinSession;
+import com.vaadin.tests.util.MockUI;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
 
 public class UIInternalsTest {
 
@@ -48,6 +56,51 @@ public class UIInternalsTest {
         Mockito.when(ui.getSession()).thenReturn(session);
     }
 
+    @After
+    public void tearDown() {
+        UI.setCurrent(null);
+    }
+
+    @Test
+    public void sentMessages_missedMessagesAvailable_returnedInOrder() {
+        for (int syncId = 0; syncId < 5; syncId++) {
+            internals.addSentMessage(createMessage(syncId), 3);
+        }
+
+        Optional<List<JsonObject>> messages = internals.getSentMessagesAfter(2);
+        Assert.assertTrue(messages.isPresent());
+        Assert.assertEquals(2, messages.get().size());
+        Assert.assertEquals(3, (int) messages.get().get(0)
+                .getNumber(ApplicationConstants.SERVER_SYNC_ID));
+        Assert.assertEquals(4, (int) messages.get().get(1)
+                .getNumber(ApplicationConstants.SERVER_SYNC_ID));
+
+        Assert.assertTrue(internals.getSentMessagesAfter(4).get().isEmpty());
+    }
+
+    @Test
+    public void sentMessages_missedMessagesNoLongerStored_nothingReturned() {
+        for (int syncId = 0; syncId < 5; syncId++) {
+            internals.addSentMessage(createMessage(syncId), 3);
+        }
+
+        Assert.assertFalse(internals.getSentMessagesAfter(0).isPresent());
+    }
+
+    @Test
+    public void sentMessages_bufferDisabled_nothingStored() {
+        internals.addSentMessage(createMessage(0), 0);
+
+        Assert.assertFalse(internals.getSentMessagesAfter(-1).isPresent());
+        Assert.assertFalse(internals.getSentMessagesAfter(0).isPresent());
+    }
+
+    private static JsonObject createMessage(int syncId) {
+        JsonObject message = Json.createObject();
+        message.put(ApplicationConstants.SERVER_SYNC_ID, syncId);
+        return message;
+    }
+
     @Test
     public void heartbeatTimestampSet_heartbeatListenersAreCalled() {
         List<Long> heartbeats = new ArrayList<>();
@@ -89,6 +142,24 @@ public class UIInternalsTest {
                 1, runCount.get());
     }
 
+    @Test
+    public void heartbeatListenerAddedAndRemoved_hasHeartbeatListenersUpdated() {
+        Assert.assertFalse(internals.hasHeartbeatListeners());
+
+        Registration registration = internals.addHeartbeatListener(event -> {
+        });
+        Assert.assertTrue(internals.hasHeartbeatListeners());
+
+        registration.remove();
+        Assert.assertFalse(internals.hasHeartbeatListeners());
+
+        // Removing twice must not affect other listeners
+        internals.addHeartbeatListener(event -> {
+        });
+        registration.remove();
+        Assert.assertTrue(internals.hasHeartbeatListeners());
+    }
+
     public static class MyTheme implements AbstractTheme {
 
         @Override
@@ -127,6 +198,85 @@ public class UIInternalsTest {
         Assert.assertTrue(getTheme(internals) instanceof MyTheme);
     }
 
+    @Test
+    public void setSession_deferInactiveSubtreesConfigured_enabledInStateTree() {
+        Assert.assertFalse(internals.getStateTree().isDeferInactiveSubtrees());
+
+        UI deferringUI = createDeferringUI();
+        Assert.assertTrue(deferringUI.getInternals().getStateTree()
+                .isDeferInactiveSubtrees());
+    }
+
+    @Test
+    public void dumpPendingJavaScriptInvocations_nodeNotSent_invocationDeferredUntilSent() {
+        UI deferringUI = createDeferringUI();
+        UIInternals deferringInternals = deferringUI.getInternals();
+        Element hidden = new Element("div");
+        Element child = new Element("span");
+        hidden.setVisible(false);
+        hidden.appendChild(child);
+        deferringUI.getElement().appendChild(hidden);
+        deferringInternals.getStateTree().collectChanges(change -> {
+        });
+
+        PendingJavaScriptInvocation invocation = new PendingJavaScriptInvocation(
+                child.getNode(), new JavaScriptInvocation("$0", 1));
+        deferringInternals.addJavaScriptInvocation(invocation);
+
+        Assert.assertTrue(
+                deferringInternals.dumpPendingJavaScriptInvocations().isEmpty());
+        Assert.assertFalse(invocation.isSentToBrowser());
+
+        hidden.setVisible(true);
+        deferringInternals.getStateTree().collectChanges(change -> {
+        });
+
+        List<PendingJavaScriptInvocation> sent = deferringInternals
+                .dumpPendingJavaScriptInvocations();
+        Assert.assertEquals(1, sent.size());
+        Assert.assertSame(invocation, sent.get(0));
+    }
+
+    @Test
+    public void dumpPendingJavaScriptInvocations_tooManyDeferred_oldestCanceled() {
+        UI deferringUI = createDeferringUI();
+        UIInternals deferringInternals = deferringUI.getInternals();
+        Element hidden = new Element("div");
+        Element child = new Element("span");
+        hidden.setVisible(false);
+        hidden.appendChild(child);
+        deferringUI.getElement().appendChild(hidden);
+        deferringInternals.getStateTree().collectChanges(change -> {
+        });
+
+        List<PendingJavaScriptInvocation> invocations = new ArrayList<>();
+        for (int i = 0; i < UIInternals.MAX_DEFERRED_JS_INVOCATIONS
+                + 2; i++) {
+            PendingJavaScriptInvocation invocation = new PendingJavaScriptInvocation(
+                    child.getNode(), new JavaScriptInvocation("$0", i));
+            invocations.add(invocation);
+            deferringInternals.addJavaScriptInvocation(invocation);
+        }
+
+        Assert.assertTrue(
+                deferringInternals.dumpPendingJavaScriptInvocations().isEmpty());
+        Assert.assertTrue(invocations.get(0).isCanceled());
+        Assert.assertTrue(invocations.get(1).isCanceled());
+        Assert.assertFalse(invocations.get(2).isCanceled());
+        Assert.assertEquals(UIInternals.MAX_DEFERRED_JS_INVOCATIONS,
+                deferringInternals.getPendingJavaScriptInvocations().count());
+    }
+
+    private static UI createDeferringUI() {
+        DeploymentConfiguration configuration = Mockito
+                .mock(DeploymentConfiguration.class);
+        Mockito.when(configuration.isDeferInactiveSubtrees()).thenReturn(true);
+        VaadinService service = Mockito.mock(VaadinService.class);
+        Mockito.when(service.getDeploymentConfiguration())
+                .thenReturn(configuration);
+        return new MockUI(new AlwaysLockedVaadinSession(service));
+    }
+
     private AbstractTheme getTheme(UIInternals internals)
             throws NoSuchFieldException, SecurityException,
             IllegalArgumentException, IllegalAccessException {
@@ -197,6 +197,28 @@ public class NpmTemplateParserTest {
                 .getTemplateElement().getElementsByTag("button").size());
     }
 
+    @Test
+    public void sameTemplateRequestedTwice_parsedOnce_templateElementsIndependent() {
+        Mockito.when(configuration.getStringProperty(Mockito.anyString(),
+                Mockito.anyString()))
+                .thenReturn(VAADIN_SERVLET_RESOURCES + "config/stats.json");
+        String tag = HelloWorld.class.getAnnotation(Tag.class).value();
+        Element first = NpmTemplateParser.getInstance()
+                .getTemplateContent(HelloWorld.class, tag, service)
+                .getTemplateElement();
+        first.getElementsByTag("button").remove();
+
+        Element second = NpmTemplateParser.getInstance()
+                .getTemplateContent(HelloWorld.class, tag, service)
+                .getTemplateElement();
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(tag, second.parent().id());
+        Assert.assertEquals(
+                "Changes to a template element should not affect later ones",
+                1, second.getElementsByTag("button").size());
+    }
+
     @Test
     public void bableStats_shouldAlwaysParseCorrectly() {
         Mockito.when(configuration.getStringProperty(Mockito.anyString(),
@@ -54,6 +54,59 @@ public abstract class AbstractNodeTest {
         assertChildren(parent, child1, child2);
     }
 
+    @Test
+    public void appendChildCollection() {
+        Node<?> parent = createParentNode();
+        Element child1 = new Element("child1");
+        Element child2 = new Element("child2");
+        parent.appendChild(Arrays.asList(child1, child2));
+
+        assertChildren(parent, child1, child2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void appendChildCollection_nullChild() {
+        Node<?> parent = createParentNode();
+        parent.appendChild(Arrays.asList(new Element("child1"), null));
+    }
+
+    @Test
+    public void insertChildCollection_existingChildMoved() {
+        Node<?> parent = createParentNode();
+        Element child1 = new Element("child1");
+        Element child2 = new Element("child2");
+        Element child3 = new Element("child3");
+        parent.appendChild(child1, child2);
+        parent.insertChild(0, Arrays.asList(child3, child2));
+
+        assertChildren(parent, child3, child2, child1);
+    }
+
+    @Test
+    public void replaceChildren() {
+        Node<?> parent = createParentNode();
+        Element child1 = new Element("child1");
+        Element child2 = new Element("child2");
+        Element child3 = new Element("child3");
+        parent.appendChild(child1, child2);
+        parent.replaceChildren(Arrays.asList(child3, child1));
+
+        assertChildren(parent, child3, child1);
+        Assert.assertNull(child2.getParent());
+    }
+
+    @Test
+    public void removeChildCollection() {
+        Node<?> parent = createParentNode();
+        Element child1 = new Element("child1");
+        Element child2 = new Element("child2");
+        Element child3 = new Element("child3");
+        parent.appendChild(child1, child2, child3);
+        parent.removeChild(Arrays.asList(child1, child3));
+
+        assertChildren(parent, child2);
+    }
+
     protected void assertChildren(Node<?> parent, Element... children) {
         Assert.assertEquals(children.length, parent.getChildCount());
         for (int i = 0; i < children.length; i++) {
@@ -569,4 +569,43 @@ public class StateTreeTest {
         Assert.assertTrue(collectedNodes.contains(node3));
     }
 
+    @Test
+    public void collectChanges_deferInactiveSubtrees_hiddenSubtreeSentWhenShown() {
+        tree.setDeferInactiveSubtrees(true);
+
+        StateNode node1 = new StateNode(ElementData.class,
+                ElementChildrenList.class);
+        StateNode node2 = new StateNode(ElementData.class,
+                ElementChildrenList.class);
+        StateNode node3 = new StateNode(ElementData.class,
+                ElementChildrenList.class);
+
+        node1.getFeature(ElementData.class).setVisible(false);
+        node1.getFeature(ElementChildrenList.class).add(0, node2);
+        node2.getFeature(ElementChildrenList.class).add(0, node3);
+        tree.getRootNode().getFeature(ElementChildrenList.class).add(0,
+                node1);
+
+        Set<StateNode> collectedNodes = new HashSet<>();
+        tree.collectChanges(change -> collectedNodes.add(change.getNode()));
+
+        Assert.assertTrue(collectedNodes.contains(node1));
+        Assert.assertFalse(collectedNodes.contains(node2));
+        Assert.assertFalse(collectedNodes.contains(node3));
+        Assert.assertFalse(node2.isClientSideInitialized());
+
+        node1.getFeature(ElementData.class).setVisible(true);
+
+        List<StateNode> attachedNodes = new ArrayList<>();
+        tree.collectChanges(change -> {
+            if (change instanceof NodeAttachChange) {
+                attachedNodes.add(change.getNode());
+            }
+        });
+
+        Assert.assertEquals(2, attachedNodes.size());
+        Assert.assertTrue(attachedNodes.contains(node2));
+        Assert.assertTrue(attachedNodes.contains(node3));
+    }
+
 }
@@ -28,6 +28,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.vaadin.flow.dom.DebouncePhase;
 import com.vaadin.flow.dom.DisabledUpdateMode;
 import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.DomEventListener;
@@ -337,6 +338,57 @@ public class ElementListenersTest
         registration.synchronizeProperty("");
     }
 
+    @Test
+    public void allowEvent_noDebounce_alwaysAllowed() {
+        ns.add("foo", noOp);
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(ns.allowEvent("foo", Json.createObject()));
+        }
+    }
+
+    @Test
+    public void allowEvent_debouncedListener_excessEventsDropped() {
+        ns.add("foo", noOp).debounce(10000);
+
+        JsonObject eventData = Json.createObject();
+        eventData.put(JsonConstants.EVENT_DATA_PHASE,
+                DebouncePhase.TRAILING.getIdentifier());
+
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (ns.allowEvent("foo", eventData)) {
+                allowed++;
+            }
+        }
+        Assert.assertTrue("Some events should be dropped", allowed < 100);
+        Assert.assertTrue("Bursts should be tolerated", allowed > 1);
+    }
+
+    @Test
+    public void allowEvent_deserialized_rateLimitStartsOver() {
+        ns.add("foo", noOp).debounce(10000, DebouncePhase.LEADING);
+        for (int i = 0; i < 100; i++) {
+            ns.allowEvent("foo", null);
+        }
+        Assert.assertFalse(ns.allowEvent("foo", null));
+
+        // The timestamps of another JVM cannot be compared with this one
+        ElementListenerMap roundtrip = SerializationUtils.roundtrip(ns);
+
+        Assert.assertTrue(roundtrip.allowEvent("foo", null));
+    }
+
+    @Test
+    public void allowEvent_oneListenerWithoutDebounce_allowed() {
+        ns.add("foo", noOp).throttle(10000);
+        ns.add("foo", noOp);
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(ns.allowEvent("foo", null));
+        }
+    }
+
     // Helper for accessing package private API from other tests
     public static Set<String> getExpressions(
             ElementListenerMap elementListenerMap, String eventName) {
@@ -65,6 +65,17 @@ public class PushConfigurationMapTest
         ns.setFallbackTransport(Transport.WEBSOCKET_XHR);
     }
 
+    @Test
+    public void maxInFlightMessages() {
+        Assert.assertEquals(
+                PushConfigurationMap.MAX_IN_FLIGHT_MESSAGES_DEFAULT,
+                ns.getMaxInFlightMessages());
+        ns.setMaxInFlightMessages(4);
+        Assert.assertEquals(4, ns.getMaxInFlightMessages());
+        Assert.assertEquals(4,
+                ns.get(PushConfigurationMap.MAX_IN_FLIGHT_MESSAGES_KEY));
+    }
+
     @Test
     public void parameterNames() {
         ns.setParameter("foo", "bar");
@@ -130,6 +130,59 @@ public class StateNodeNodeListTest
         Assert.assertEquals(-1, nodeList.indexOf(three));
     }
 
+    @Test
+    public void addAllAtIndex_singleChange_childrenAttached() {
+        StateNode one = StateNodeTest.createEmptyNode("one");
+        StateNode two = StateNodeTest.createEmptyNode("two");
+        StateNode three = StateNodeTest.createEmptyNode("three");
+
+        nodeList.add(one);
+        collectChanges(nodeList);
+
+        ((ElementChildrenList) nodeList).addAll(0, Arrays.asList(two, three));
+
+        Assert.assertEquals(3, nodeList.size());
+        Assert.assertSame(two, nodeList.get(0));
+        Assert.assertSame(three, nodeList.get(1));
+        Assert.assertSame(one, nodeList.get(2));
+        Assert.assertSame(nodeList.getNode(), two.getParent());
+        Assert.assertSame(nodeList.getNode(), three.getParent());
+
+        List<NodeChange> changes = collectChanges(nodeList);
+        Assert.assertEquals(1, changes.size());
+        ListAddChange<?> change = (ListAddChange<?>) changes.get(0);
+        Assert.assertEquals(0, change.getIndex());
+        Assert.assertEquals(Arrays.asList(two, three), change.getNewItems());
+    }
+
+    @Test
+    public void testIndexOf_manyItems_indexFollowsChanges() {
+        List<StateNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            nodes.add(StateNodeTest.createEmptyNode("node" + i));
+        }
+        nodeList.addAll(nodes);
+
+        Assert.assertEquals(42, nodeList.indexOf(nodes.get(42)));
+
+        StateNode appended = StateNodeTest.createEmptyNode("appended");
+        nodeList.add(appended);
+        Assert.assertEquals(100, nodeList.indexOf(appended));
+
+        nodeList.remove(0);
+        Assert.assertEquals(-1, nodeList.indexOf(nodes.get(0)));
+        Assert.assertEquals(41, nodeList.indexOf(nodes.get(42)));
+        Assert.assertEquals(99, nodeList.indexOf(appended));
+
+        StateNode inserted = StateNodeTest.createEmptyNode("inserted");
+        nodeList.add(10, inserted);
+        Assert.assertEquals(10, nodeList.indexOf(inserted));
+        Assert.assertEquals(42, nodeList.indexOf(nodes.get(42)));
+
+        nodeList.clear();
+        Assert.assertEquals(-1, nodeList.indexOf(inserted));
+    }
+
     @Test
     public void testClear() {
         StateNode one = StateNodeTest.createEmptyNode("one");
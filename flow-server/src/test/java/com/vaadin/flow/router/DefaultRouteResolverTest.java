@@ -24,6 +24,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.router.internal.DefaultRouteResolver;
 import com.vaadin.flow.router.internal.ResolveRequest;
@@ -114,6 +115,26 @@ public class DefaultRouteResolverTest extends RoutingTestBase {
         Assert.assertEquals(null, resolveNavigationState("greeting"));
     }
 
+    @Test
+    public void route_with_regex_characters_parameters_resolved()
+            throws InvalidRouteConfigurationException {
+        setRoutes(router.getRegistry(),
+                Collections.singleton(RegexCharactersNavigationTarget.class));
+
+        Assert.assertEquals(Collections.singletonList("World"),
+                resolveNavigationState("greet+ing/World").getUrlParameters()
+                        .get());
+    }
+
+    @Route("greet+ing")
+    @Tag(Tag.DIV)
+    public static class RegexCharactersNavigationTarget extends Component
+            implements HasUrlParameter<String> {
+        @Override
+        public void setParameter(BeforeEvent event, String parameter) {
+        }
+    }
+
     private Class<? extends Component> resolveNavigationTarget(String path) {
         return resolveNavigationState(path).getNavigationTarget();
     }
@@ -1754,6 +1754,18 @@ public class BootstrapHandlerTest {
         Assert.assertFalse(bundle.hasAttr("defer"));
     }
 
+    @Test
+    public void splitTemplate_placeholdersAtOddIndices() {
+        Assert.assertEquals(
+                Arrays.asList("var a = ", "FOO", "; var b = '", "BAR", "';"),
+                BootstrapHandler
+                        .splitTemplate("var a = {{FOO}}; var b = '{{BAR}}';"));
+        Assert.assertEquals(Arrays.asList("{{unclosed"),
+                BootstrapHandler.splitTemplate("{{unclosed"));
+        Assert.assertEquals(Arrays.asList(""),
+                BootstrapHandler.splitTemplate(""));
+    }
+
     private void assertStringEquals(String message, String expected,
             String actual) {
         Assert.assertThat(message,
@@ -268,6 +268,41 @@ public class DevModeHandlerTest {
         assertEquals(HTTP_UNAUTHORIZED, responseError);
     }
 
+    @Test
+    public void should_KeepWebpackConnectionAlive_BetweenRequests()
+            throws Exception {
+        int port = DevModeHandler.getFreePort();
+        List<Integer> clientPorts = Collections
+                .synchronizedList(new ArrayList<>());
+        httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        httpServer.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.sendResponseHeaders(HTTP_OK, 3);
+            exchange.getResponseBody().write("bar".getBytes());
+            exchange.close();
+        });
+        httpServer.start();
+        DevModeHandler handler = DevModeHandler.start(port, configuration,
+                npmFolder);
+        clientPorts.clear();
+
+        // The browser asks to close the connection, which is only meant
+        // for the browser-to-servlet hop
+        HttpServletRequest request = prepareRequest("/foo.js");
+        Mockito.doAnswer(invocation -> Collections
+                .enumeration(Arrays.asList("foo", "Connection")))
+                .when(request).getHeaderNames();
+        Mockito.doAnswer(invocation -> "close").when(request)
+                .getHeader("Connection");
+
+        assertTrue(handler.serveDevModeRequest(request, prepareResponse()));
+        assertTrue(handler.serveDevModeRequest(request, prepareResponse()));
+
+        assertEquals(2, clientPorts.size());
+        assertEquals("Second request should reuse the webpack connection",
+                clientPorts.get(0), clientPorts.get(1));
+    }
+
     @Test(expected = ConnectException.class)
     public void servlet_should_ThrowAnException_When_WebpackNotListening()
             throws Exception {
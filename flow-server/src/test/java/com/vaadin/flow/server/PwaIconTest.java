@@ -0,0 +1,48 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PwaIconTest {
+
+    @Test
+    public void imageRenderer_renderedOnFirstWriteOnly() {
+        AtomicInteger renderCount = new AtomicInteger();
+        PwaIcon icon = new PwaIcon(16, 16, "icons/icon.png");
+        icon.setImageRenderer(42L, () -> {
+            renderCount.incrementAndGet();
+            return new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        });
+
+        Assert.assertEquals("icons/icon-16x16.png?42", icon.getHref());
+        Assert.assertEquals(0, renderCount.get());
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        icon.write(first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        icon.write(second);
+
+        Assert.assertEquals(1, renderCount.get());
+        Assert.assertTrue(first.size() > 0);
+        Assert.assertArrayEquals(first.toByteArray(), second.toByteArray());
+    }
+}
@@ -36,6 +36,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -180,6 +183,14 @@ public class StaticFileServerTest implements Serializable {
 
         configuration = Mockito.mock(DeploymentConfiguration.class);
         Mockito.when(configuration.isProductionMode()).thenReturn(true);
+        Mockito.when(configuration.isStaticResourceCacheEnabled())
+                .thenReturn(true);
+        Mockito.when(configuration.getStaticResourceCacheMaxEntries())
+                .thenReturn(1000);
+        Mockito.when(configuration.getStaticResourceCacheMaxBytes())
+                .thenReturn(64L * 1024 * 1024);
+        Mockito.when(configuration.getStaticResourceCacheMaxResourceBytes())
+                .thenReturn(4 * 1024 * 1024);
 
         Mockito.when(servletService.getDeploymentConfiguration())
                 .thenReturn(configuration);
@@ -709,6 +720,138 @@ public class StaticFileServerTest implements Serializable {
                 responseCode.get());
     }
 
+    @Test
+    public void serveStaticResource_productionMode_resolvedOnlyOnce()
+            throws IOException {
+        setupRequestURI("", "/some", "/file.js");
+        byte[] fileData = "function() {eval('foo');};"
+                .getBytes(StandardCharsets.UTF_8);
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData));
+
+        for (int i = 0; i < 3; i++) {
+            CapturingServletOutputStream out = new CapturingServletOutputStream();
+            Mockito.when(response.getOutputStream()).thenReturn(out);
+            Assert.assertTrue(
+                    fileServer.serveStaticResource(request, response));
+            Assert.assertArrayEquals(fileData, out.getOutput());
+        }
+
+        Mockito.verify(servletService, Mockito.times(1))
+                .getStaticResource("/some/file.js");
+    }
+
+    @Test
+    public void serveStaticResource_cacheDisabled_resolvedOnEachRequest()
+            throws IOException {
+        Mockito.when(configuration.isStaticResourceCacheEnabled())
+                .thenReturn(false);
+        fileServer = new OverrideableStaticFileServer(servletService);
+        setupRequestURI("", "/some", "/file.js");
+        byte[] fileData = "function() {eval('foo');};"
+                .getBytes(StandardCharsets.UTF_8);
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData));
+
+        for (int i = 0; i < 2; i++) {
+            CapturingServletOutputStream out = new CapturingServletOutputStream();
+            Mockito.when(response.getOutputStream()).thenReturn(out);
+            Assert.assertTrue(
+                    fileServer.serveStaticResource(request, response));
+            Assert.assertArrayEquals(fileData, out.getOutput());
+        }
+
+        Mockito.verify(servletService, Mockito.times(2))
+                .getStaticResource("/some/file.js");
+        Assert.assertNull(headers.get("ETag"));
+    }
+
+    @Test
+    public void serveStaticResource_maxResourceBytesExceeded_contentsStreamed()
+            throws IOException {
+        Mockito.when(configuration.getStaticResourceCacheMaxResourceBytes())
+                .thenReturn(10);
+        fileServer = new OverrideableStaticFileServer(servletService);
+        setupRequestURI("", "/some", "/file.js");
+        byte[] fileData = "function() {eval('foo');};"
+                .getBytes(StandardCharsets.UTF_8);
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData));
+        CapturingServletOutputStream out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+
+        Assert.assertArrayEquals(fileData, out.getOutput());
+        // Only resources kept in memory get a content hash ETag
+        Assert.assertNull(headers.get("ETag"));
+    }
+
+    @Test
+    public void serveStaticResource_acceptsGzip_compressedContentsServed()
+            throws IOException {
+        setupRequestURI("", "/some", "/file.js");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append("function() {eval('foo');};");
+        }
+        byte[] fileData = content.toString().getBytes(StandardCharsets.UTF_8);
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData));
+        Mockito.when(request.getHeader("Accept-Encoding"))
+                .thenReturn("gzip, deflate");
+        CapturingServletOutputStream out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+
+        Assert.assertEquals("gzip", headers.get("Content-Encoding"));
+        Assert.assertEquals("Accept-Encoding", headers.get("Vary"));
+        Assert.assertEquals(out.getOutput().length,
+                responseContentLength.get());
+        Assert.assertArrayEquals(fileData, IOUtils.toByteArray(
+                new GZIPInputStream(new ByteArrayInputStream(out.getOutput()))));
+    }
+
+    @Test
+    public void serveStaticResource_ifNoneMatchesEtag_notModified()
+            throws IOException {
+        setupRequestURI("", "/some", "/file.js");
+        byte[] fileData = "function() {eval('foo');};"
+                .getBytes(StandardCharsets.UTF_8);
+        Mockito.when(servletService.getStaticResource("/some/file.js"))
+                .thenReturn(createFileURLWithDataAndLength("/some/file.js",
+                        fileData));
+        CapturingServletOutputStream out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+
+        fileServer.serveStaticResource(request, response);
+        String etag = headers.get("ETag");
+        Assert.assertNotNull(etag);
+
+        out = new CapturingServletOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+        Mockito.when(request.getHeader("If-None-Match")).thenReturn(etag);
+
+        Assert.assertTrue(fileServer.serveStaticResource(request, response));
+        Assert.assertEquals(0, out.getOutput().length);
+        Assert.assertEquals(HttpServletResponse.SC_NOT_MODIFIED,
+                responseCode.get());
+    }
+
+    @Test
+    public void matchesEtag() {
+        Assert.assertTrue(StaticFileServer.matchesEtag("\"a\"", "\"a\""));
+        Assert.assertTrue(
+                StaticFileServer.matchesEtag("\"b\", W/\"a\"", "\"a\""));
+        Assert.assertTrue(StaticFileServer.matchesEtag("*", "\"a\""));
+        Assert.assertFalse(StaticFileServer.matchesEtag("\"b\"", "\"a\""));
+    }
+
     @Test
     public void serveStaticResourceFromWebjarWithIncorrectPath()
             throws IOException {
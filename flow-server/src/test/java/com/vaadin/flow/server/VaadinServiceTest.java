@@ -23,9 +23,16 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,19 +43,28 @@ import javax.servlet.http.HttpSessionBindingEvent;
 import org.easymock.EasyMock;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.RouteData;
 import com.vaadin.flow.router.Router;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
+import com.vaadin.flow.server.communication.HeartbeatHandler;
 import com.vaadin.flow.server.communication.StreamRequestHandler;
+import com.vaadin.flow.server.communication.UidlRequestHandler;
 import com.vaadin.flow.server.startup.BundleDependencyFilter;
 import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.theme.AbstractTheme;
 import com.vaadin.tests.util.MockDeploymentConfiguration;
 
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
 import net.jcip.annotations.NotThreadSafe;
 
 /**
@@ -182,6 +198,156 @@ public class VaadinServiceTest {
                 .isPresent());
     }
 
+    @Test
+    public void requestDispatchTable_typedHandlersSkippedForOtherTypes() {
+        RequestHandler custom = (session, request, response) -> false;
+        HeartbeatHandler heartbeat = new HeartbeatHandler();
+        UidlRequestHandler uidl = new UidlRequestHandler();
+        StreamRequestHandler stream = new StreamRequestHandler();
+
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected List<RequestHandler> createRequestHandlers()
+                    throws ServiceException {
+                // Reversed by the service
+                return new ArrayList<>(
+                        Arrays.asList(heartbeat, uidl, stream, custom));
+            }
+        };
+        service.init();
+
+        Assert.assertEquals(Arrays.asList(custom, stream),
+                service.getRequestHandlers(null));
+        Assert.assertEquals(Arrays.asList(custom, uidl),
+                service.getRequestHandlers(RequestType.UIDL));
+        Assert.assertEquals(Arrays.asList(custom, heartbeat),
+                service.getRequestHandlers(RequestType.HEARTBEAT));
+        Assert.assertEquals(Arrays.asList(custom),
+                service.getRequestHandlers(RequestType.PUSH));
+
+        Assert.assertEquals(4, service.getRequestHandlerStatistics().size());
+        Assert.assertEquals(0, service.getRequestHandlerStatistics()
+                .get(uidl).getHandledCount());
+    }
+
+    @Test
+    public void handleRequest_heartbeatWhileSessionLocked_handledWithoutWaiting()
+            throws Exception {
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected List<RequestHandler> createRequestHandlers()
+                    throws ServiceException {
+                // Reversed by the service
+                return new ArrayList<>(Arrays.asList(new HeartbeatHandler(),
+                        new UnsupportedBrowserHandler()));
+            }
+        };
+        service.init();
+
+        Map<String, Object> attributes = new HashMap<>();
+        WrappedSession wrappedSession = Mockito.mock(WrappedSession.class);
+        Mockito.when(wrappedSession.getAttribute(Mockito.anyString()))
+                .thenAnswer(invocation -> attributes
+                        .get(invocation.getArguments()[0]));
+        Mockito.doAnswer(invocation -> attributes.put(
+                (String) invocation.getArguments()[0],
+                invocation.getArguments()[1])).when(wrappedSession)
+                .setAttribute(Mockito.anyString(), Mockito.any());
+
+        UI ui = Mockito.mock(UI.class);
+        UIInternals internals = Mockito.mock(UIInternals.class);
+        Mockito.when(ui.getUIId()).thenReturn(1);
+        Mockito.when(ui.getInternals()).thenReturn(internals);
+
+        service.lockSession(wrappedSession);
+        MockVaadinSession session = new MockVaadinSession(service);
+        service.storeSession(session, wrappedSession);
+        Mockito.when(ui.getSession()).thenReturn(session);
+        session.addUI(ui);
+        service.unlockSession(wrappedSession);
+
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request
+                .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                .thenReturn(RequestType.HEARTBEAT.getIdentifier());
+        Mockito.when(
+                request.getParameter(ApplicationConstants.UI_ID_PARAMETER))
+                .thenReturn("1");
+        Mockito.when(request.getWrappedSession(Mockito.anyBoolean()))
+                .thenReturn(wrappedSession);
+        VaadinResponse response = Mockito.mock(VaadinResponse.class);
+
+        // Simulates a long request holding the lock in another thread
+        Lock lock = session.getLockInstance();
+        lock.lock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                service.handleRequest(request, response);
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+        } finally {
+            lock.unlock();
+            executor.shutdown();
+        }
+
+        Mockito.verify(internals)
+                .setLastHeartbeatTimestamp(Mockito.anyLong());
+        Mockito.verify(response).setHeader("Content-Type", "text/plain");
+    }
+
+    @Test
+    public void recordClientMetrics_aggregatedPerTarget() {
+        VaadinService service = createService();
+
+        JsonObject report = Json.createObject();
+        report.put(ApplicationConstants.CLIENT_METRICS_MESSAGES, 4);
+        report.put(ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME, 40);
+        report.put(ApplicationConstants.CLIENT_METRICS_ROUND_TRIPS, 2);
+        report.put(ApplicationConstants.CLIENT_METRICS_ROUND_TRIP_TIME, 300);
+        service.recordClientMetrics(TestView.class, report);
+
+        report.put(ApplicationConstants.CLIENT_METRICS_ROUND_TRIP_TIME, 100);
+        report.put(ApplicationConstants.CLIENT_METRICS_RESYNCHRONIZATIONS, 1);
+        service.recordClientMetrics(TestView.class, report);
+
+        ClientMetrics metrics = service.getClientMetrics()
+                .get(TestView.class);
+        Assert.assertEquals(1, service.getClientMetrics().size());
+        Assert.assertEquals(2, metrics.getReportCount());
+        Assert.assertEquals(8, metrics.getProcessedMessageCount());
+        Assert.assertEquals(10, metrics.getAverageProcessingMillis());
+        Assert.assertEquals(4, metrics.getRoundTripCount());
+        Assert.assertEquals(100, metrics.getAverageRoundTripMillis());
+        Assert.assertEquals(1, metrics.getResynchronizationCount());
+    }
+
+    @Test
+    public void recordClientMetrics_invalidValues_reportIgnored() {
+        VaadinService service = createService();
+
+        JsonObject report = Json.createObject();
+        report.put(ApplicationConstants.CLIENT_METRICS_MESSAGES, 4);
+        report.put(ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME, 40);
+        service.recordClientMetrics(TestView.class, report);
+
+        report.put(ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME, 1e300);
+        service.recordClientMetrics(TestView.class, report);
+        report.put(ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME,
+                Double.NaN);
+        service.recordClientMetrics(TestView.class, report);
+        report.put(ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME, -1);
+        service.recordClientMetrics(TestView.class, report);
+        report.put(ApplicationConstants.CLIENT_METRICS_PROCESSING_TIME, "40");
+        service.recordClientMetrics(TestView.class, report);
+
+        ClientMetrics metrics = service.getClientMetrics()
+                .get(TestView.class);
+        Assert.assertEquals(1, metrics.getReportCount());
+        Assert.assertEquals(4, metrics.getProcessedMessageCount());
+        Assert.assertEquals(10, metrics.getAverageProcessingMillis());
+    }
+
     @Test
     public void currentInstancesAfterPendingAccessTasks() {
         VaadinService service = createService();
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.atmosphere.cpr.AtmosphereRequest;
+import org.atmosphere.cpr.AtmosphereResource;
+import org.atmosphere.cpr.AtmosphereResource.TRANSPORT;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinServletService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.ServerRpcHandler.MessageReplayRequiredException;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class PushHandlerTest {
+
+    private VaadinServletService service;
+    private AtmosphereResource resource;
+    private AtmospherePushConnection connection;
+    private ServerRpcHandler rpcHandler;
+
+    @Before
+    public void setup() throws Exception {
+        service = Mockito.mock(VaadinServletService.class);
+        VaadinSession session = Mockito.mock(VaadinSession.class);
+        UI ui = Mockito.mock(UI.class);
+        UIInternals internals = Mockito.mock(UIInternals.class);
+        connection = Mockito.mock(AtmospherePushConnection.class);
+        rpcHandler = Mockito.mock(ServerRpcHandler.class);
+
+        Mockito.when(service.findVaadinSession(Mockito.any()))
+                .thenReturn(session);
+        Mockito.when(service.findUI(Mockito.any())).thenReturn(ui);
+        Mockito.when(ui.getInternals()).thenReturn(internals);
+        Mockito.when(internals.getPushConnection()).thenReturn(connection);
+        Mockito.when(connection.isConnected()).thenReturn(true);
+        Mockito.when(connection.receiveMessage(Mockito.any()))
+                .thenReturn(new StringReader("{}"));
+
+        AtmosphereRequest request = Mockito.mock(AtmosphereRequest.class);
+        Mockito.when(request.getReader())
+                .thenReturn(new BufferedReader(new StringReader("{}")));
+        resource = Mockito.mock(AtmosphereResource.class);
+        Mockito.when(resource.getRequest()).thenReturn(request);
+        Mockito.when(resource.transport()).thenReturn(TRANSPORT.WEBSOCKET);
+
+        // Normally set up by the service when the request starts
+        CurrentInstance.set(VaadinSession.class, session);
+        CurrentInstance.set(UI.class, ui);
+        CurrentInstance.set(VaadinRequest.class,
+                Mockito.mock(VaadinRequest.class));
+    }
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void onMessage_replayRequired_missedMessagesPushedInOrder()
+            throws Exception {
+        JsonObject first = Json.createObject();
+        first.put("syncId", 1);
+        JsonObject second = Json.createObject();
+        second.put("syncId", 2);
+        Mockito.doThrow(new MessageReplayRequiredException(
+                Arrays.asList(first, second))).when(rpcHandler)
+                .handleRpc(Mockito.any(UI.class), Mockito.any(Reader.class),
+                        Mockito.any(VaadinRequest.class));
+
+        PushHandler handler = new PushHandler(service) {
+            @Override
+            protected ServerRpcHandler createRpcHandler() {
+                return rpcHandler;
+            }
+        };
+        handler.onMessage(resource);
+
+        InOrder inOrder = Mockito.inOrder(connection);
+        inOrder.verify(connection)
+                .sendMessage("for(;;);[" + first.toJson() + "]");
+        inOrder.verify(connection)
+                .sendMessage("for(;;);[" + second.toJson() + "]");
+        Mockito.verify(connection, Mockito.never())
+                .push(Mockito.anyBoolean());
+    }
+}
@@ -2,6 +2,13 @@ package com.vaadin.flow.server.communication;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -12,11 +19,21 @@ import org.mockito.Mockito;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.dom.DebouncePhase;
+import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import com.vaadin.flow.server.MockVaadinServletService;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.rpc.RpcInvocationHandler;
+import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
 
 public class ServerRpcHandlerTest {
     private VaadinRequest request;
@@ -75,4 +92,155 @@ public class ServerRpcHandlerTest {
         // then
         Assert.assertTrue(uiTree.hasDirtyNodes());
     }
+
+    @Test
+    public void handleRpc_sameMapSyncPropertyTwice_onlyLastValueHandled()
+            throws IOException,
+            ServerRpcHandler.InvalidUIDLSecurityKeyException {
+        List<String> handledValues = new ArrayList<>();
+        RpcInvocationHandler mapSyncHandler = new RpcInvocationHandler() {
+            @Override
+            public String getRpcType() {
+                return JsonConstants.RPC_TYPE_MAP_SYNC;
+            }
+
+            @Override
+            public Optional<Runnable> handle(UI ui, JsonObject invocationJson) {
+                handledValues.add(invocationJson
+                        .getString(JsonConstants.RPC_PROPERTY_VALUE));
+                return Optional.empty();
+            }
+        };
+        serverRpcHandler = new ServerRpcHandler() {
+            @Override
+            protected Map<String, RpcInvocationHandler> getInvocationHandlers() {
+                return Collections.singletonMap(
+                        JsonConstants.RPC_TYPE_MAP_SYNC, mapSyncHandler);
+            }
+        };
+
+        StringReader reader = new StringReader("{\"csrfToken\": \""
+                + csrfToken + "\", \"rpc\":[" + mapSync(1, "value", "a") + ","
+                + mapSync(2, "value", "b") + "," + mapSync(1, "value", "c")
+                + "], \"clientId\":1}");
+
+        serverRpcHandler.handleRpc(ui, reader, request);
+
+        Assert.assertEquals(Arrays.asList("b", "c"), handledValues);
+    }
+
+    @Test
+    public void handleRpc_eventsFasterThanDebounceAllows_excessEventsDropped()
+            throws IOException,
+            ServerRpcHandler.InvalidUIDLSecurityKeyException {
+        MockVaadinServletService realService = new MockVaadinServletService();
+        Mockito.when(session.getService()).thenReturn(realService);
+
+        uiTree = new StateTree(uiInternals, ElementListenerMap.class);
+        Mockito.when(uiInternals.getStateTree()).thenReturn(uiTree);
+        int nodeId = uiTree.getRootNode().getId();
+        uiTree.getRootNode().getFeature(ElementListenerMap.class)
+                .add("mousemove", event -> {
+                }).debounce(10000, DebouncePhase.LEADING);
+
+        AtomicInteger handledEvents = new AtomicInteger();
+        RpcInvocationHandler eventHandler = new RpcInvocationHandler() {
+            @Override
+            public String getRpcType() {
+                return JsonConstants.RPC_TYPE_EVENT;
+            }
+
+            @Override
+            public Optional<Runnable> handle(UI ui, JsonObject invocationJson) {
+                handledEvents.incrementAndGet();
+                return Optional.empty();
+            }
+        };
+        serverRpcHandler = new ServerRpcHandler() {
+            @Override
+            protected Map<String, RpcInvocationHandler> getInvocationHandlers() {
+                return Collections.singletonMap(JsonConstants.RPC_TYPE_EVENT,
+                        eventHandler);
+            }
+        };
+
+        List<String> events = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            events.add("{\"type\": \"event\", \"node\": " + nodeId
+                    + ", \"event\": \"mousemove\"}");
+        }
+        StringReader reader = new StringReader("{\"csrfToken\": \""
+                + csrfToken + "\", \"rpc\":[" + String.join(",", events)
+                + "], \"clientId\":1}");
+
+        serverRpcHandler.handleRpc(ui, reader, request);
+
+        // A burst of five events is tolerated
+        Assert.assertEquals(5, handledEvents.get());
+        Assert.assertEquals(Collections.singletonMap("mousemove", 15L),
+                realService.getDroppedEventCounts());
+    }
+
+    @Test
+    public void handleRpc_duplicateMessage_missedMessagesReplayed()
+            throws IOException,
+            ServerRpcHandler.InvalidUIDLSecurityKeyException {
+        UIInternals internals = useRealInternals();
+        for (int syncId = 0; syncId < 3; syncId++) {
+            internals.addSentMessage(createSentMessage(syncId), 5);
+        }
+        String message = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"syncId\": 0, \"clientId\":0}";
+        serverRpcHandler.handleRpc(ui, new StringReader(message), request);
+
+        try {
+            serverRpcHandler.handleRpc(ui, new StringReader(message),
+                    request);
+            Assert.fail("The missed messages should be replayed");
+        } catch (ServerRpcHandler.MessageReplayRequiredException e) {
+            List<JsonObject> messages = e.getMessages();
+            Assert.assertEquals(2, messages.size());
+            Assert.assertEquals(1, (int) messages.get(0)
+                    .getNumber(ApplicationConstants.SERVER_SYNC_ID));
+            Assert.assertEquals(2, (int) messages.get(1)
+                    .getNumber(ApplicationConstants.SERVER_SYNC_ID));
+        }
+    }
+
+    @Test
+    public void handleRpc_duplicateMessageNotInReplayBuffer_resynchronizationRequested()
+            throws IOException,
+            ServerRpcHandler.InvalidUIDLSecurityKeyException {
+        UIInternals internals = useRealInternals();
+        for (int syncId = 0; syncId < 5; syncId++) {
+            internals.addSentMessage(createSentMessage(syncId), 2);
+        }
+        String message = "{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"syncId\": 0, \"clientId\":0}";
+        serverRpcHandler.handleRpc(ui, new StringReader(message), request);
+
+        thrown.expect(UnsupportedOperationException.class);
+        thrown.expectMessage("Confirmed duplicate message from the client.");
+        serverRpcHandler.handleRpc(ui, new StringReader(message), request);
+    }
+
+    private UIInternals useRealInternals() {
+        Mockito.when(ui.getUI()).thenReturn(Optional.of(ui));
+        Mockito.when(ui.getElement()).thenReturn(new Element("body"));
+        UIInternals internals = new UIInternals(ui);
+        Mockito.when(ui.getInternals()).thenReturn(internals);
+        return internals;
+    }
+
+    private static JsonObject createSentMessage(int syncId) {
+        JsonObject message = Json.createObject();
+        message.put(ApplicationConstants.SERVER_SYNC_ID, syncId);
+        return message;
+    }
+
+    private static String mapSync(int node, String property, String value) {
+        return "{\"type\": \"mSync\", \"node\": " + node
+                + ", \"feature\": 1, \"property\": \"" + property
+                + "\", \"value\": \"" + value + "\"}";
+    }
 }
@@ -17,10 +17,16 @@
 
 package com.vaadin.flow.server.communication;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
 import java.util.Properties;
 
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.server.DefaultDeploymentConfiguration;
 import com.vaadin.flow.server.ServletHelper.RequestType;
 import com.vaadin.flow.server.VaadinRequest;
@@ -28,12 +34,18 @@ import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServletService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.ServerRpcHandler.MessageReplayRequiredException;
 import com.vaadin.flow.shared.ApplicationConstants;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public class UidlRequestHandlerTest {
 
     private VaadinRequest request;
@@ -76,6 +88,43 @@ public class UidlRequestHandlerTest {
                 responseContent);
     }
 
+    @Test
+    public void synchronizedHandleRequest_replayRequired_bufferedMessagesWritten()
+            throws Exception {
+        VaadinService service = Mockito.mock(VaadinService.class);
+        VaadinSession session = Mockito.mock(VaadinSession.class);
+        UI ui = Mockito.mock(UI.class);
+        Mockito.when(session.getService()).thenReturn(service);
+        Mockito.when(service.findUI(request)).thenReturn(ui);
+        Mockito.when(request.getReader())
+                .thenReturn(new BufferedReader(new StringReader("{}")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Mockito.when(response.getOutputStream()).thenReturn(out);
+
+        JsonObject first = Json.createObject();
+        first.put(ApplicationConstants.SERVER_SYNC_ID, 1);
+        JsonObject second = Json.createObject();
+        second.put(ApplicationConstants.SERVER_SYNC_ID, 2);
+        ServerRpcHandler rpcHandler = Mockito.mock(ServerRpcHandler.class);
+        Mockito.doThrow(new MessageReplayRequiredException(
+                Arrays.asList(first, second))).when(rpcHandler)
+                .handleRpc(Mockito.any(UI.class), Mockito.any(Reader.class),
+                        Mockito.any(VaadinRequest.class));
+        handler = new UidlRequestHandler() {
+            @Override
+            protected ServerRpcHandler createRpcHandler() {
+                return rpcHandler;
+            }
+        };
+
+        Assert.assertTrue(
+                handler.synchronizedHandleRequest(session, request, response));
+
+        Assert.assertEquals(
+                "for(;;);[" + first.toJson() + "," + second.toJson() + "]",
+                new String(out.toByteArray(), UTF_8));
+    }
+
     @Test
     public void writeSessionExpired_whenUINotFound() throws IOException {
 
@@ -18,19 +18,26 @@
 package com.vaadin.flow.server.frontend;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import com.vaadin.flow.server.Constants;
+
 import static com.vaadin.flow.server.frontend.FrontendUtils.FLOW_NPM_PACKAGE_NAME;
 import static com.vaadin.flow.server.frontend.FrontendUtils.NODE_MODULES;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class TaskCopyFrontendFilesTest extends NodeUpdateTestUtil {
     @Rule
@@ -85,6 +92,139 @@ public class TaskCopyFrontendFilesTest extends NodeUpdateTestUtil {
                 files.contains("resourceInFolder.js"));
     }
 
+    @Test
+    public void should_extractJarsAgain_whenTargetFolderIsRemoved()
+            throws IOException {
+        File npmFolder = temporaryFolder.newFolder();
+        File targetFolder = new File(npmFolder,
+                NODE_MODULES + FLOW_NPM_PACKAGE_NAME);
+        File jar = TestUtils.getTestJar("jar-with-modern-frontend.jar");
+
+        TaskCopyFrontendFiles task = new TaskCopyFrontendFiles(npmFolder,
+                jars(jar));
+        task.execute();
+
+        File fingerprints = new File(npmFolder, NODE_MODULES
+                + TaskCopyFrontendFiles.JAR_FINGERPRINTS_FILE);
+        Assert.assertTrue("Jar fingerprints should have been stored",
+                FileUtils.readFileToString(fingerprints, UTF_8)
+                        .contains(jar.getName()));
+
+        FileUtils.deleteDirectory(targetFolder);
+        task.execute();
+
+        List<String> files = TestUtils.listFilesRecursively(targetFolder);
+        Assert.assertTrue(
+                "Unchanged jar should be extracted again when files are gone",
+                files.contains("ExampleConnector.js"));
+    }
+
+    @Test
+    public void should_extractAllJars_whenJarsProvideSameFile()
+            throws IOException {
+        File jarFolder = temporaryFolder.newFolder();
+        File first = new File(jarFolder, "first.jar");
+        File second = new File(jarFolder, "second.jar");
+        createJar(first, "shared.js", "first");
+        createJar(second, "shared.js", "second");
+        Set<File> jars = jars(first, second);
+
+        File npmFolder = temporaryFolder.newFolder();
+        File shared = new File(npmFolder,
+                NODE_MODULES + FLOW_NPM_PACKAGE_NAME + "/shared.js");
+        new TaskCopyFrontendFiles(npmFolder, jars).execute();
+
+        // Change the jar whose file was overwritten by the other one
+        String winner = FileUtils.readFileToString(shared, UTF_8);
+        File changed = "first".equals(winner) ? second : first;
+        createJar(changed, "shared.js", "changed " + winner);
+        new TaskCopyFrontendFiles(npmFolder, jars).execute();
+
+        File fullCopyFolder = temporaryFolder.newFolder();
+        new TaskCopyFrontendFiles(fullCopyFolder, jars).execute();
+        Assert.assertEquals(
+                "Incremental copy should give the same result as a full copy",
+                FileUtils.readFileToString(new File(fullCopyFolder,
+                        NODE_MODULES + FLOW_NPM_PACKAGE_NAME + "/shared.js"),
+                        UTF_8),
+                FileUtils.readFileToString(shared, UTF_8));
+    }
+
+    @Test
+    public void should_removeFilesOfRemovedJars() throws IOException {
+        File jarFolder = temporaryFolder.newFolder();
+        File removed = new File(jarFolder, "removed.jar");
+        File kept = new File(jarFolder, "kept.jar");
+        createJar(removed, "removed.js", "removed");
+        createJar(kept, "kept.js", "kept");
+
+        File npmFolder = temporaryFolder.newFolder();
+        File targetFolder = new File(npmFolder,
+                NODE_MODULES + FLOW_NPM_PACKAGE_NAME);
+        new TaskCopyFrontendFiles(npmFolder, jars(removed, kept)).execute();
+        Assert.assertTrue(new File(targetFolder, "removed.js").exists());
+
+        new TaskCopyFrontendFiles(npmFolder, jars(kept)).execute();
+
+        List<String> files = TestUtils.listFilesRecursively(targetFolder);
+        Assert.assertFalse("Files of a removed jar should be removed",
+                files.contains("removed.js"));
+        Assert.assertTrue(files.contains("kept.js"));
+    }
+
+    @Test
+    public void should_extractUnchangedJarAgain_whenFileIsDeleted()
+            throws IOException {
+        File jar = new File(temporaryFolder.newFolder(), "unchanged.jar");
+        createJar(jar, "unchanged.js", "unchanged");
+
+        File npmFolder = temporaryFolder.newFolder();
+        File extracted = new File(
+                new File(npmFolder, NODE_MODULES + FLOW_NPM_PACKAGE_NAME),
+                "unchanged.js");
+        new TaskCopyFrontendFiles(npmFolder, jars(jar)).execute();
+        Assert.assertTrue(extracted.delete());
+
+        new TaskCopyFrontendFiles(npmFolder, jars(jar)).execute();
+
+        Assert.assertTrue("Deleted file should be restored",
+                extracted.exists());
+    }
+
+    @Test
+    public void should_extractUnchangedJarAgain_whenFileIsEdited()
+            throws IOException {
+        File jar = new File(temporaryFolder.newFolder(), "unchanged.jar");
+        createJar(jar, "unchanged.js", "unchanged");
+
+        File npmFolder = temporaryFolder.newFolder();
+        File extracted = new File(
+                new File(npmFolder, NODE_MODULES + FLOW_NPM_PACKAGE_NAME),
+                "unchanged.js");
+        new TaskCopyFrontendFiles(npmFolder, jars(jar)).execute();
+        FileUtils.write(extracted, "edited", UTF_8);
+        File fingerprints = new File(npmFolder,
+                NODE_MODULES + TaskCopyFrontendFiles.JAR_FINGERPRINTS_FILE);
+        Assert.assertTrue(extracted
+                .setLastModified(fingerprints.lastModified() + 10000));
+
+        new TaskCopyFrontendFiles(npmFolder, jars(jar)).execute();
+
+        Assert.assertEquals("Edited file should be restored", "unchanged",
+                FileUtils.readFileToString(extracted, UTF_8));
+    }
+
+    private static void createJar(File jar, String fileName, String contents)
+            throws IOException {
+        try (JarOutputStream out = new JarOutputStream(
+                new FileOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(
+                    Constants.RESOURCES_FRONTEND_DEFAULT + "/" + fileName));
+            out.write(contents.getBytes(UTF_8));
+            out.closeEntry();
+        }
+    }
+
     private static Set<File> jars(File... files) {
         return Stream.of(files).collect(Collectors.toSet());
     }
@@ -357,6 +357,32 @@ public class BeanModelTypeTest {
         beanType.importProperties(model, bean, PropertyFilter.ACCEPT_ALL);
     }
 
+    @Test
+    public void importBean_sameBeanClassAgain_filterAndTypeCheckApplied() {
+        BeanModelType<Bean> beanType = new BeanModelType<>(Bean.class,
+                PropertyFilter.ACCEPT_ALL, false);
+
+        DifferentBean bean = new DifferentBean(3);
+
+        ElementPropertyMap model = createEmptyModel();
+        beanType.importProperties(model, bean,
+                new PropertyFilter(name -> !"intValue".equals(name)));
+        Assert.assertEquals("3", model.getProperty("string"));
+
+        model = createEmptyModel();
+        beanType.importProperties(model, bean,
+                new PropertyFilter("string"::equals));
+        Assert.assertEquals(1, model.getPropertyNames().count());
+
+        try {
+            beanType.importProperties(createEmptyModel(), bean,
+                    PropertyFilter.ACCEPT_ALL);
+            Assert.fail("Incompatible property should not be imported");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
     @Test
     public void modelToApplication() {
         BeanModelType<Bean> beanType = new BeanModelType<>(Bean.class,